@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson.benchmarks;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A thread scaling benchmark runner.
+ *
+ * <p>Runs the matching benchmarks w/ 1, 2, 4 and so on threads
+ * up to the provided maximum and prints a summary table.
+ *
+ * <pre>{@code
+ * java -jar benchmarks.jar [include regex] [max threads]
+ * }</pre>
+ */
+@SuppressWarnings("unused")
+public final class UwBenchmarkRunner {
+
+	/**
+	 * Initialize a {@link UwBenchmarkRunner} instance.
+	 */
+	private UwBenchmarkRunner() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Get a list of the thread counts to run w/.
+	 *
+	 * @param maxThreads	the maximum thread count
+	 * @return				the list of thread counts
+	 */
+	static List<Integer> getThreadCounts(int maxThreads) {
+		List<Integer> threadCounts = new ArrayList<>();
+
+		for (int threads = 1; threads < maxThreads; threads <<= 1) {
+			threadCounts.add(threads);
+		}
+
+		threadCounts.add(Math.max(maxThreads, 1));
+
+		return threadCounts;
+	}
+
+	/**
+	 * Format a benchmark label w/ its parameters.
+	 *
+	 * @param params	the benchmark parameters
+	 * @return			the label
+	 */
+	private static String getLabel(BenchmarkParams params) {
+		String benchmark = params.getBenchmark();
+		StringBuilder sb = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1));
+
+		for (String key : params.getParamsKeys()) {
+			sb.append(' ').append(key).append('=').append(params.getParam(key));
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Run the benchmarks.
+	 *
+	 * @param args	the include regex and the maximum thread count
+	 * @throws RunnerException	if a benchmark fails
+	 */
+	public static void main(String[] args) throws RunnerException {
+		String include = args.length > 0 ? args[0] : "io\\.github\\.iwyfewwnt\\.uwgson\\.benchmarks\\..*";
+		int maxThreads = args.length > 1
+				? Integer.parseInt(args[1])
+				: Runtime.getRuntime().availableProcessors();
+
+		List<String> summary = new ArrayList<>();
+
+		for (int threads : getThreadCounts(maxThreads)) {
+			Options options = new OptionsBuilder()
+					.include(include)
+					.threads(threads)
+					.forks(1)
+					.warmupIterations(3)
+					.measurementIterations(5)
+					.build();
+
+			Collection<RunResult> results = new Runner(options).run();
+
+			for (RunResult result : results) {
+				Result<?> primaryResult = result.getPrimaryResult();
+
+				summary.add(String.format("%-80s %3d %14.3f +- %10.3f %s",
+						getLabel(result.getParams()), threads,
+						primaryResult.getScore(), primaryResult.getScoreError(),
+						primaryResult.getScoreUnit()));
+			}
+		}
+
+		System.out.printf("%n%-80s %3s %14s    %10s%n", "Benchmark", "Thr", "Score", "Error");
+		for (String line : summary) {
+			System.out.println(line);
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson.benchmarks;
+
+import io.github.iwyfewwnt.uwgson.UwFastDoubleParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link UwFastDoubleParser} benchmark.
+ *
+ * <p>Parses the same set of literals w/ the JDK parser
+ * and the fast one, the score is per literal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@SuppressWarnings("unused")
+public class UwFastDoubleParserBenchmark {
+
+	/**
+	 * A number of the literals.
+	 */
+	private static final int COUNT = 1024;
+
+	/**
+	 * A kind of the literals: the shortest round-trip forms,
+	 * the 17-digit forms, short decimals like prices
+	 * or integers.
+	 */
+	@Param({"shortest", "digits17", "prices", "integers"})
+	public String kind;
+
+	/**
+	 * An array of the literals.
+	 */
+	private String[] literals;
+
+	/**
+	 * Set up the shared state.
+	 */
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+
+		this.literals = new String[COUNT];
+
+		for (int i = 0; i < COUNT; i++) {
+			double value = random.nextDouble() * Math.pow(10, random.nextInt(20) - 10);
+
+			switch (this.kind) {
+				case "shortest":
+					this.literals[i] = Double.toString(value);
+					break;
+				case "digits17":
+					this.literals[i] = String.format(Locale.ROOT, "%.17g", value);
+					break;
+				case "prices":
+					this.literals[i] = String.format(Locale.ROOT, "%.2f", random.nextDouble() * 10_000);
+					break;
+				case "integers":
+					this.literals[i] = Long.toString(random.nextInt());
+					break;
+				default:
+					throw new IllegalArgumentException(this.kind);
+			}
+		}
+	}
+
+	/**
+	 * Parse the literals w/ {@link Double#parseDouble(String)}.
+	 *
+	 * @return	the sum of the values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public double jdk() {
+		double sum = 0;
+
+		for (String literal : this.literals) {
+			sum += Double.parseDouble(literal);
+		}
+
+		return sum;
+	}
+
+	/**
+	 * Parse the literals w/ {@link UwFastDoubleParser#parseDouble(String)}.
+	 *
+	 * @return	the sum of the values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public double fast() {
+		double sum = 0;
+
+		for (String literal : this.literals) {
+			sum += UwFastDoubleParser.parseDouble(literal);
+		}
+
+		return sum;
+	}
+}
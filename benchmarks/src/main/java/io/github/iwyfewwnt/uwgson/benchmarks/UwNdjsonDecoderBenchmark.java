@@ -0,0 +1,185 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.github.iwyfewwnt.uwgson.UwNdjsonDecoder;
+import io.github.iwyfewwnt.uwgson.UwTypeAdapterFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link UwNdjsonDecoder} benchmark.
+ *
+ * <p>Decodes an in-memory NDJSON input w/ a single-threaded
+ * line loop and w/ the ordered and unordered decoders
+ * on a fixed pool of the provided number of workers.
+ * The decoder parallelizes on its own, so run it
+ * w/ one benchmark thread.
+ *
+ * <pre>{@code
+ * java -jar benchmarks.jar UwNdjsonDecoderBenchmark 1
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@SuppressWarnings("unused")
+public class UwNdjsonDecoderBenchmark {
+
+	/**
+	 * A sample record.
+	 */
+	public static final class Event {
+		long id;
+		String name;
+		double score;
+		List<String> tags;
+	}
+
+	/**
+	 * A number of the input lines.
+	 */
+	@Param({"100000"})
+	public int lines;
+
+	/**
+	 * A number of the decoder workers.
+	 */
+	@Param({"2", "4", "8"})
+	public int workers;
+
+	/**
+	 * A maximum number of lines in a batch.
+	 */
+	@Param({"1024"})
+	public int batchSize;
+
+	/**
+	 * A shared gson instance.
+	 */
+	private Gson gson;
+
+	/**
+	 * A worker pool.
+	 */
+	private ExecutorService executor;
+
+	/**
+	 * An ordered decoder.
+	 */
+	private UwNdjsonDecoder<Event> orderedDecoder;
+
+	/**
+	 * An unordered decoder.
+	 */
+	private UwNdjsonDecoder<Event> unorderedDecoder;
+
+	/**
+	 * A UTF-8 encoded input.
+	 */
+	private byte[] input;
+
+	/**
+	 * Set up the shared state.
+	 */
+	@Setup
+	public void setUp() {
+		this.gson = new GsonBuilder()
+				.registerTypeAdapterFactory(new UwTypeAdapterFactory())
+				.create();
+
+		this.executor = Executors.newFixedThreadPool(this.workers);
+
+		int maxPendingBatches = this.workers * 2;
+
+		this.orderedDecoder = new UwNdjsonDecoder<>(this.gson, Event.class,
+				this.executor, this.batchSize, maxPendingBatches, true);
+		this.unorderedDecoder = new UwNdjsonDecoder<>(this.gson, Event.class,
+				this.executor, this.batchSize, maxPendingBatches, false);
+
+		StringBuilder sb = new StringBuilder();
+
+		for (int i = 0; i < this.lines; i++) {
+			sb.append("{\"id\":").append(i)
+					.append(",\"name\":\"event-").append(i)
+					.append("\",\"score\":").append(i * 0.25D)
+					.append(",\"tags\":[\"a\",\"b\",\"c\"]}\n");
+		}
+
+		this.input = sb.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Tear down the shared state.
+	 */
+	@TearDown
+	public void tearDown() {
+		this.executor.shutdownNow();
+	}
+
+	/**
+	 * Decode the input line by line on the calling thread.
+	 *
+	 * @param blackhole		the blackhole
+	 * @throws IOException	if an I/O error occurs
+	 */
+	@Benchmark
+	public void singleThreaded(Blackhole blackhole) throws IOException {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				new ByteArrayInputStream(this.input), StandardCharsets.UTF_8))) {
+			String line;
+
+			while ((line = reader.readLine()) != null) {
+				blackhole.consume(this.gson.fromJson(line, Event.class));
+			}
+		}
+	}
+
+	/**
+	 * Decode the input w/ the ordered decoder.
+	 *
+	 * @param blackhole		the blackhole
+	 * @throws IOException	if an I/O error occurs
+	 */
+	@Benchmark
+	public void ordered(Blackhole blackhole) throws IOException {
+		this.orderedDecoder.decode(new ByteArrayInputStream(this.input), blackhole::consume);
+	}
+
+	/**
+	 * Decode the input w/ the unordered decoder.
+	 *
+	 * @param blackhole		the blackhole
+	 * @throws IOException	if an I/O error occurs
+	 */
+	@Benchmark
+	public void unordered(Blackhole blackhole) throws IOException {
+		this.unorderedDecoder.decode(new ByteArrayInputStream(this.input), blackhole::consume);
+	}
+}
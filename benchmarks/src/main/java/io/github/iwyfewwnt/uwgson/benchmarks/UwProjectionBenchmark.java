@@ -0,0 +1,121 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import io.github.iwyfewwnt.uwgson.UwProjectionTypeAdapterFactory;
+import io.github.iwyfewwnt.uwgson.UwTypeAdapterFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link UwProjectionTypeAdapterFactory} benchmark.
+ *
+ * <p>Decodes a wide document keeping the provided percent
+ * of its members, the full percent decodes it w/o a projection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@SuppressWarnings("unused")
+public class UwProjectionBenchmark {
+
+	/**
+	 * A {@code Map<String, List<Integer>>} type.
+	 */
+	private static final Type DOCUMENT_TYPE = new TypeToken<Map<String, List<Integer>>>() {}.getType();
+
+	/**
+	 * A number of elements per member.
+	 */
+	private static final int MEMBER_SIZE = 16;
+
+	/**
+	 * A number of the document members.
+	 */
+	@Param({"200"})
+	public int width;
+
+	/**
+	 * A percent of the members to keep.
+	 */
+	@Param({"5", "50", "100"})
+	public int percent;
+
+	/**
+	 * A shared gson instance.
+	 */
+	private Gson gson;
+
+	/**
+	 * A document JSON.
+	 */
+	private String json;
+
+	/**
+	 * Set up the shared state.
+	 */
+	@Setup
+	public void setUp() {
+		StringBuilder sb = new StringBuilder("{");
+
+		for (int i = 0; i < this.width; i++) {
+			sb.append(i > 0 ? "," : "").append("\"member-").append(i).append("\":[");
+
+			for (int j = 0; j < MEMBER_SIZE; j++) {
+				sb.append(j > 0 ? "," : "").append(i * MEMBER_SIZE + j);
+			}
+
+			sb.append(']');
+		}
+
+		this.json = sb.append('}').toString();
+
+		GsonBuilder builder = new GsonBuilder()
+				.registerTypeAdapterFactory(new UwTypeAdapterFactory());
+
+		if (this.percent < 100) {
+			int count = Math.max(this.width * this.percent / 100, 1);
+			String[] paths = new String[count];
+
+			for (int i = 0; i < count; i++) {
+				paths[i] = "member-" + (i * this.width / count);
+			}
+
+			builder.registerTypeAdapterFactory(new UwProjectionTypeAdapterFactory()
+					.project(DOCUMENT_TYPE, paths));
+		}
+
+		this.gson = builder.create();
+	}
+
+	/**
+	 * Decode the document.
+	 *
+	 * @return	the document
+	 */
+	@Benchmark
+	public Map<String, List<Integer>> decode() {
+		return this.gson.fromJson(this.json, DOCUMENT_TYPE);
+	}
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import io.github.iwyfewwnt.uwgson.UwTypeAdapterFactory;
+import io.github.iwyfewwnt.uwgson.collections.UwCanonicalizationCache;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link UwTypeAdapterFactory} benchmark.
+ *
+ * <p>The cold benchmark builds a new {@link Gson} instance
+ * per operation, so every adapter is resolved again.
+ * The warm ones share an instance whose adapters are cached,
+ * and the create one calls the factory directly.
+ * Run w/ {@link UwBenchmarkRunner} to scale the thread count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@SuppressWarnings("unused")
+public class UwTypeAdapterFactoryBenchmark {
+
+	/**
+	 * A sample payload.
+	 */
+	public static final class Payload {
+		int id;
+		double score;
+		String name;
+		int[] values;
+		List<String> tags;
+		Map<String, Integer> counts;
+		Set<Long> ids;
+	}
+
+	/**
+	 * A {@code List<String>} type.
+	 */
+	private static final Type LIST_TYPE = new TypeToken<List<String>>() {}.getType();
+
+	/**
+	 * A {@code Map<String, Integer>} type.
+	 */
+	private static final Type MAP_TYPE = new TypeToken<Map<String, Integer>>() {}.getType();
+
+	/**
+	 * A {@code Set<Long>} type.
+	 */
+	private static final Type SET_TYPE = new TypeToken<Set<Long>>() {}.getType();
+
+	/**
+	 * An array of the type tokens the factory is asked for.
+	 */
+	private static final TypeToken<?>[] TYPE_TOKENS = {
+			TypeToken.get(String.class),
+			TypeToken.get(Integer.class),
+			TypeToken.get(int.class),
+			TypeToken.get(double.class),
+			TypeToken.get(int[].class),
+			TypeToken.get(LIST_TYPE),
+			TypeToken.get(MAP_TYPE),
+			TypeToken.get(SET_TYPE),
+			TypeToken.get(Payload.class)
+	};
+
+	/**
+	 * A number of elements per collection.
+	 */
+	@Param({"16", "256"})
+	public int size;
+
+	/**
+	 * Whether to use a canonicalization cache.
+	 */
+	@Param({"false", "true"})
+	public boolean canonicalize;
+
+	/**
+	 * A shared factory instance.
+	 */
+	private UwTypeAdapterFactory factory;
+
+	/**
+	 * A shared gson instance.
+	 */
+	private Gson gson;
+
+	/**
+	 * A payload JSON.
+	 */
+	private String json;
+
+	/**
+	 * A list JSON.
+	 */
+	private String listJson;
+
+	/**
+	 * A map JSON.
+	 */
+	private String mapJson;
+
+	/**
+	 * A set JSON.
+	 */
+	private String setJson;
+
+	/**
+	 * Create a factory instance.
+	 *
+	 * @return	the factory instance
+	 */
+	private UwTypeAdapterFactory createFactory() {
+		return new UwTypeAdapterFactory(this.canonicalize ? new UwCanonicalizationCache() : null);
+	}
+
+	/**
+	 * Set up the shared state.
+	 */
+	@Setup
+	public void setUp() {
+		this.factory = this.createFactory();
+		this.gson = new GsonBuilder()
+				.registerTypeAdapterFactory(this.factory)
+				.create();
+
+		StringBuilder list = new StringBuilder("[");
+		StringBuilder map = new StringBuilder("{");
+		StringBuilder set = new StringBuilder("[");
+		StringBuilder values = new StringBuilder("[");
+
+		for (int i = 0; i < this.size; i++) {
+			String separator = i > 0 ? "," : "";
+
+			list.append(separator).append("\"tag-").append(i % 16).append('"');
+			map.append(separator).append("\"key-").append(i).append("\":").append(i);
+			set.append(separator).append(1_000_000_000_000L + i);
+			values.append(separator).append(i);
+		}
+
+		this.listJson = list.append(']').toString();
+		this.mapJson = map.append('}').toString();
+		this.setJson = set.append(']').toString();
+
+		this.json = "{\"id\":42,\"score\":0.75,\"name\":\"payload\""
+				+ ",\"values\":" + values.append(']')
+				+ ",\"tags\":" + this.listJson
+				+ ",\"counts\":" + this.mapJson
+				+ ",\"ids\":" + this.setJson
+				+ "}";
+	}
+
+	/**
+	 * Decode the payload w/ a new gson instance.
+	 *
+	 * @return	the payload
+	 */
+	@Benchmark
+	public Payload cold() {
+		Gson gson = new GsonBuilder()
+				.registerTypeAdapterFactory(this.createFactory())
+				.create();
+
+		return gson.fromJson(this.json, Payload.class);
+	}
+
+	/**
+	 * Decode the payload w/ the shared gson instance.
+	 *
+	 * @return	the payload
+	 */
+	@Benchmark
+	public Payload warm() {
+		return this.gson.fromJson(this.json, Payload.class);
+	}
+
+	/**
+	 * Create type adapters w/ the shared factory instance.
+	 *
+	 * @param blackhole		the blackhole
+	 */
+	@Benchmark
+	public void create(Blackhole blackhole) {
+		for (TypeToken<?> typeToken : TYPE_TOKENS) {
+			blackhole.consume(this.factory.create(this.gson, typeToken));
+		}
+	}
+
+	/**
+	 * Decode a list w/ the shared gson instance.
+	 *
+	 * @return	the list
+	 */
+	@Benchmark
+	public List<String> list() {
+		return this.gson.fromJson(this.listJson, LIST_TYPE);
+	}
+
+	/**
+	 * Decode a map w/ the shared gson instance.
+	 *
+	 * @return	the map
+	 */
+	@Benchmark
+	public Map<String, Integer> map() {
+		return this.gson.fromJson(this.mapJson, MAP_TYPE);
+	}
+
+	/**
+	 * Decode a set w/ the shared gson instance.
+	 *
+	 * @return	the set
+	 */
+	@Benchmark
+	public Set<Long> set() {
+		return this.gson.fromJson(this.setJson, SET_TYPE);
+	}
+}
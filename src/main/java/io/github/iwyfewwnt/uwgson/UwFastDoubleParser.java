@@ -0,0 +1,508 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson;
+
+import java.math.BigInteger;
+
+/**
+ * A fast, correctly rounded decimal to binary floating-point parser.
+ *
+ * <p>Scans the decimal literal once, then uses
+ * the exact fast path for small values and the Eisel-Lemire
+ * algorithm for the rest. The inputs neither of them decides
+ * on, such as the ones w/ more than 19 significant digits,
+ * subnormals, {@code NaN}, {@code Infinity} or hexadecimal
+ * literals, are handed over to {@link Double#parseDouble(String)}
+ * and {@link Float#parseFloat(String)}, so the results and
+ * the thrown exceptions are the same as theirs.
+ */
+@SuppressWarnings("unused")
+public final class UwFastDoubleParser {
+
+	/**
+	 * A minimum decimal exponent of the power table.
+	 */
+	private static final int MIN_EXP10 = -342;
+
+	/**
+	 * A maximum decimal exponent of the power table.
+	 */
+	private static final int MAX_EXP10 = 308;
+
+	/**
+	 * A maximum number of significant digits in a 64-bit mantissa.
+	 */
+	private static final int MAX_DIGITS = 19;
+
+	/**
+	 * A maximum absolute exponent value before its last digit,
+	 * longer exponents are left to the JDK parser.
+	 */
+	private static final int MAX_EXPONENT_VALUE = 100_000;
+
+	/**
+	 * A double-precision mantissa limit of the exact fast path.
+	 */
+	private static final long DOUBLE_EXACT_MANTISSA = 1L << 53;
+
+	/**
+	 * A single-precision mantissa limit of the exact fast path.
+	 */
+	private static final long FLOAT_EXACT_MANTISSA = 1L << 24;
+
+	/**
+	 * An array of exactly representable double-precision powers of ten.
+	 */
+	private static final double[] DOUBLE_POWERS_OF_TEN = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+			1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20,
+			1e21, 1e22
+	};
+
+	/**
+	 * An array of exactly representable single-precision powers of ten.
+	 */
+	private static final float[] FLOAT_POWERS_OF_TEN = {
+			1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+	};
+
+	/**
+	 * A high 64 bits of the normalized 128-bit powers of five.
+	 */
+	private static final long[] POWERS_OF_FIVE_HI = new long[MAX_EXP10 - MIN_EXP10 + 1];
+
+	/**
+	 * A low 64 bits of the normalized 128-bit powers of five.
+	 */
+	private static final long[] POWERS_OF_FIVE_LO = new long[MAX_EXP10 - MIN_EXP10 + 1];
+
+	static {
+		BigInteger two127 = BigInteger.ONE.shiftLeft(127);
+		BigInteger two128 = BigInteger.ONE.shiftLeft(128);
+
+		for (int q = MIN_EXP10; q <= MAX_EXP10; q++) {
+			BigInteger power;
+
+			if (q >= 0) {
+				power = BigInteger.valueOf(5).pow(q);
+
+				while (power.compareTo(two127) < 0) {
+					power = power.shiftLeft(1);
+				}
+
+				while (power.compareTo(two128) >= 0) {
+					power = power.shiftRight(1);
+				}
+			} else {
+				BigInteger inverse = BigInteger.valueOf(5).pow(-q);
+				int z = inverse.bitLength();
+				int b = q >= -27 ? z + 127 : 2 * z + 128;
+
+				power = BigInteger.ONE.shiftLeft(b)
+						.divide(inverse)
+						.add(BigInteger.ONE);
+
+				while (power.compareTo(two128) >= 0) {
+					power = power.shiftRight(1);
+				}
+			}
+
+			POWERS_OF_FIVE_HI[q - MIN_EXP10] = power.shiftRight(64).longValue();
+			POWERS_OF_FIVE_LO[q - MIN_EXP10] = power.longValue();
+		}
+	}
+
+	/**
+	 * Initialize a {@link UwFastDoubleParser} instance.
+	 */
+	private UwFastDoubleParser() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Parse a double-precision value.
+	 *
+	 * @param str	the string
+	 * @return		the same value as {@link Double#parseDouble(String)}
+	 * @throws NumberFormatException	if the string isn't a number
+	 */
+	public static double parseDouble(String str) {
+		Decimal decimal = Decimal.scan(str);
+
+		if (decimal != null) {
+			double result = toDouble(decimal.mantissa, decimal.exponent, decimal.negative);
+
+			if (!Double.isNaN(result)) {
+				return result;
+			}
+		}
+
+		return Double.parseDouble(str);
+	}
+
+	/**
+	 * Parse a single-precision value.
+	 *
+	 * @param str	the string
+	 * @return		the same value as {@link Float#parseFloat(String)}
+	 * @throws NumberFormatException	if the string isn't a number
+	 */
+	public static float parseFloat(String str) {
+		Decimal decimal = Decimal.scan(str);
+
+		if (decimal != null) {
+			float result = toFloat(decimal.mantissa, decimal.exponent, decimal.negative);
+
+			if (!Float.isNaN(result)) {
+				return result;
+			}
+		}
+
+		return Float.parseFloat(str);
+	}
+
+	/**
+	 * Convert a decimal to a double-precision value.
+	 *
+	 * @param mantissa	the decimal mantissa
+	 * @param exp10		the decimal exponent
+	 * @param negative	whether the value is negative
+	 * @return			the value or {@code NaN} if undecided
+	 */
+	private static double toDouble(long mantissa, int exp10, boolean negative) {
+		if (mantissa == 0 || exp10 < MIN_EXP10) {
+			return negative ? -0.0D : 0.0D;
+		}
+
+		if (exp10 > MAX_EXP10) {
+			return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+		}
+
+		if (mantissa > 0 && mantissa <= DOUBLE_EXACT_MANTISSA && exp10 >= -22 && exp10 <= 22) {
+			double value = (double) mantissa;
+
+			value = exp10 < 0
+					? value / DOUBLE_POWERS_OF_TEN[-exp10]
+					: value * DOUBLE_POWERS_OF_TEN[exp10];
+
+			return negative ? -value : value;
+		}
+
+		int clz = Long.numberOfLeadingZeros(mantissa);
+		mantissa <<= clz;
+
+		long retExp2 = ((217706L * exp10) >> 16) + 64 + 1023 - clz;
+
+		int index = exp10 - MIN_EXP10;
+
+		long xHi = unsignedMultiplyHigh(mantissa, POWERS_OF_FIVE_HI[index]);
+		long xLo = mantissa * POWERS_OF_FIVE_HI[index];
+
+		if ((xHi & 0x1FF) == 0x1FF && Long.compareUnsigned(xLo + mantissa, mantissa) < 0) {
+			long yHi = unsignedMultiplyHigh(mantissa, POWERS_OF_FIVE_LO[index]);
+			long yLo = mantissa * POWERS_OF_FIVE_LO[index];
+
+			long mergedHi = xHi;
+			long mergedLo = xLo + yHi;
+
+			if (Long.compareUnsigned(mergedLo, xLo) < 0) {
+				mergedHi++;
+			}
+
+			if ((mergedHi & 0x1FF) == 0x1FF && mergedLo + 1 == 0
+					&& Long.compareUnsigned(yLo + mantissa, mantissa) < 0) {
+				return Double.NaN;
+			}
+
+			xHi = mergedHi;
+			xLo = mergedLo;
+		}
+
+		long msb = xHi >>> 63;
+		long retMantissa = xHi >>> (msb + 9);
+		retExp2 -= 1 ^ msb;
+
+		if (xLo == 0 && (xHi & 0x1FF) == 0 && (retMantissa & 3) == 1) {
+			return Double.NaN;
+		}
+
+		retMantissa += retMantissa & 1;
+		retMantissa >>>= 1;
+
+		if ((retMantissa >>> 53) > 0) {
+			retMantissa >>>= 1;
+			retExp2++;
+		}
+
+		if (retExp2 <= 0 || retExp2 >= 0x7FF) {
+			return Double.NaN;
+		}
+
+		long bits = retExp2 << 52 | retMantissa & 0x000FFFFFFFFFFFFFL;
+
+		if (negative) {
+			bits |= 0x8000000000000000L;
+		}
+
+		return Double.longBitsToDouble(bits);
+	}
+
+	/**
+	 * Convert a decimal to a single-precision value.
+	 *
+	 * @param mantissa	the decimal mantissa
+	 * @param exp10		the decimal exponent
+	 * @param negative	whether the value is negative
+	 * @return			the value or {@code NaN} if undecided
+	 */
+	private static float toFloat(long mantissa, int exp10, boolean negative) {
+		if (mantissa == 0 || exp10 < MIN_EXP10) {
+			return negative ? -0.0F : 0.0F;
+		}
+
+		if (exp10 > MAX_EXP10) {
+			return negative ? Float.NEGATIVE_INFINITY : Float.POSITIVE_INFINITY;
+		}
+
+		if (mantissa > 0 && mantissa <= FLOAT_EXACT_MANTISSA && exp10 >= -10 && exp10 <= 10) {
+			float value = (float) mantissa;
+
+			value = exp10 < 0
+					? value / FLOAT_POWERS_OF_TEN[-exp10]
+					: value * FLOAT_POWERS_OF_TEN[exp10];
+
+			return negative ? -value : value;
+		}
+
+		int clz = Long.numberOfLeadingZeros(mantissa);
+		mantissa <<= clz;
+
+		long retExp2 = ((217706L * exp10) >> 16) + 64 + 127 - clz;
+
+		int index = exp10 - MIN_EXP10;
+
+		long xHi = unsignedMultiplyHigh(mantissa, POWERS_OF_FIVE_HI[index]);
+		long xLo = mantissa * POWERS_OF_FIVE_HI[index];
+
+		if ((xHi & 0x3FFFFFFFFFL) == 0x3FFFFFFFFFL && Long.compareUnsigned(xLo + mantissa, mantissa) < 0) {
+			long yHi = unsignedMultiplyHigh(mantissa, POWERS_OF_FIVE_LO[index]);
+			long yLo = mantissa * POWERS_OF_FIVE_LO[index];
+
+			long mergedHi = xHi;
+			long mergedLo = xLo + yHi;
+
+			if (Long.compareUnsigned(mergedLo, xLo) < 0) {
+				mergedHi++;
+			}
+
+			if ((mergedHi & 0x3FFFFFFFFFL) == 0x3FFFFFFFFFL && mergedLo + 1 == 0
+					&& Long.compareUnsigned(yLo + mantissa, mantissa) < 0) {
+				return Float.NaN;
+			}
+
+			xHi = mergedHi;
+			xLo = mergedLo;
+		}
+
+		long msb = xHi >>> 63;
+		long retMantissa = xHi >>> (msb + 38);
+		retExp2 -= 1 ^ msb;
+
+		if (xLo == 0 && (xHi & 0x3FFFFFFFFFL) == 0 && (retMantissa & 3) == 1) {
+			return Float.NaN;
+		}
+
+		retMantissa += retMantissa & 1;
+		retMantissa >>>= 1;
+
+		if ((retMantissa >>> 24) > 0) {
+			retMantissa >>>= 1;
+			retExp2++;
+		}
+
+		if (retExp2 <= 0 || retExp2 >= 0xFF) {
+			return Float.NaN;
+		}
+
+		int bits = (int) (retExp2 << 23 | retMantissa & 0x007FFFFFL);
+
+		if (negative) {
+			bits |= 0x80000000;
+		}
+
+		return Float.intBitsToFloat(bits);
+	}
+
+	/**
+	 * Get the high 64 bits of the unsigned 128-bit product.
+	 *
+	 * @param a		the first unsigned factor
+	 * @param b		the second unsigned factor
+	 * @return		the high 64 bits
+	 */
+	private static long unsignedMultiplyHigh(long a, long b) {
+		long aLo = a & 0xFFFFFFFFL;
+		long aHi = a >>> 32;
+		long bLo = b & 0xFFFFFFFFL;
+		long bHi = b >>> 32;
+
+		long loLo = aLo * bLo;
+		long hiLo = aHi * bLo + (loLo >>> 32);
+		long loHi = aLo * bHi + (hiLo & 0xFFFFFFFFL);
+
+		return aHi * bHi + (hiLo >>> 32) + (loHi >>> 32);
+	}
+
+	/**
+	 * A scanned decimal.
+	 */
+	private static final class Decimal {
+
+		/**
+		 * An unsigned mantissa of at most 19 significant digits.
+		 */
+		private final long mantissa;
+
+		/**
+		 * A decimal exponent.
+		 */
+		private final int exponent;
+
+		/**
+		 * Whether the value is negative.
+		 */
+		private final boolean negative;
+
+		/**
+		 * Initialize a {@link Decimal} instance.
+		 *
+		 * @param mantissa	the mantissa
+		 * @param exponent	the decimal exponent
+		 * @param negative	whether the value is negative
+		 */
+		private Decimal(long mantissa, int exponent, boolean negative) {
+			this.mantissa = mantissa;
+			this.exponent = exponent;
+			this.negative = negative;
+		}
+
+		/**
+		 * Scan a plain decimal literal.
+		 *
+		 * @param str	the string
+		 * @return		the decimal or {@code null} if the string isn't
+		 * 				a plain decimal literal w/ at most 19 significant digits
+		 * 				and an exponent of at most 6 digits
+		 */
+		private static Decimal scan(String str) {
+			int length = str.length();
+			int i = 0;
+
+			boolean negative = false;
+
+			if (i < length && (str.charAt(i) == '-' || str.charAt(i) == '+')) {
+				negative = str.charAt(i) == '-';
+				i++;
+			}
+
+			long mantissa = 0;
+			int digits = 0;
+			int exponent = 0;
+			boolean hasDigits = false;
+
+			char c;
+
+			for (; i < length && (c = str.charAt(i)) >= '0' && c <= '9'; i++) {
+				hasDigits = true;
+
+				if (mantissa == 0 && c == '0') {
+					continue;
+				}
+
+				if (digits < MAX_DIGITS) {
+					mantissa = mantissa * 10 + (c - '0');
+					digits++;
+				} else if (c != '0') {
+					return null;
+				} else {
+					exponent++;
+				}
+			}
+
+			if (i < length && str.charAt(i) == '.') {
+				i++;
+
+				for (; i < length && (c = str.charAt(i)) >= '0' && c <= '9'; i++) {
+					hasDigits = true;
+
+					if (mantissa == 0 && c == '0') {
+						exponent--;
+						continue;
+					}
+
+					if (digits < MAX_DIGITS) {
+						mantissa = mantissa * 10 + (c - '0');
+						digits++;
+						exponent--;
+					} else if (c != '0') {
+						return null;
+					}
+				}
+			}
+
+			if (!hasDigits) {
+				return null;
+			}
+
+			if (i < length && (str.charAt(i) == 'e' || str.charAt(i) == 'E')) {
+				i++;
+
+				boolean negativeExponent = false;
+
+				if (i < length && (str.charAt(i) == '-' || str.charAt(i) == '+')) {
+					negativeExponent = str.charAt(i) == '-';
+					i++;
+				}
+
+				int exponentValue = 0;
+				boolean hasExponentDigits = false;
+
+				for (; i < length && (c = str.charAt(i)) >= '0' && c <= '9'; i++) {
+					hasExponentDigits = true;
+
+					if (exponentValue >= MAX_EXPONENT_VALUE) {
+						return null;
+					}
+
+					exponentValue = exponentValue * 10 + (c - '0');
+				}
+
+				if (!hasExponentDigits) {
+					return null;
+				}
+
+				exponent += negativeExponent ? -exponentValue : exponentValue;
+			}
+
+			if (i != length) {
+				return null;
+			}
+
+			return new Decimal(mantissa, exponent, negative);
+		}
+	}
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson;
+
+/**
+ * A lazily parsed number.
+ *
+ * <p>Keeps the JSON literal until the first access,
+ * then narrows it to an {@link Integer}, a {@link Long}
+ * or a {@link Double} and drops the literal.
+ *
+ * <p>Use {@link #valueOf(String)} to skip the wrapper
+ * for the short integer literals.
+ */
+@SuppressWarnings("unused")
+public final class UwLazyNumber extends Number {
+
+	/**
+	 * A serial version UID.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * A maximum digit count of an integer literal parsed eagerly,
+	 * any such one fits in a {@code long}.
+	 */
+	private static final int MAX_EAGER_DIGITS = 18;
+
+	/**
+	 * A JSON literal or the narrowed number.
+	 */
+	private volatile Object value;
+
+	/**
+	 * Initialize a {@link UwLazyNumber} instance.
+	 *
+	 * @param literal	the JSON number literal
+	 */
+	public UwLazyNumber(String literal) {
+		if (literal == null) {
+			throw new NullPointerException("literal");
+		}
+
+		this.value = literal;
+	}
+
+	/**
+	 * Get a number of the provided literal.
+	 *
+	 * <p>Integer literals of up to 18 digits are parsed eagerly
+	 * to an {@link Integer} or a {@link Long}, the small ones
+	 * come from their caches. Others are kept lazily.
+	 *
+	 * @param literal	the JSON number literal
+	 * @return			the {@link Integer}, {@link Long} or {@link UwLazyNumber} value
+	 */
+	public static Number valueOf(String literal) {
+		int length = literal.length();
+		int index = length > 0 && literal.charAt(0) == '-' ? 1 : 0;
+
+		if (length == index || length - index > MAX_EAGER_DIGITS) {
+			return new UwLazyNumber(literal);
+		}
+
+		long longVal = 0;
+
+		for (int i = index; i < length; i++) {
+			int digit = literal.charAt(i) - '0';
+
+			if (digit < 0 || digit > 9) {
+				return new UwLazyNumber(literal);
+			}
+
+			longVal = longVal * 10 + digit;
+		}
+
+		if (index != 0) {
+			longVal = -longVal;
+		}
+
+		int intVal = (int) longVal;
+
+		if (intVal == longVal) {
+			return intVal;
+		}
+
+		return longVal;
+	}
+
+	/**
+	 * Get the narrowest number.
+	 *
+	 * @return	the {@link Integer}, {@link Long} or {@link Double} value
+	 * @throws NumberFormatException	if the literal isn't a number
+	 */
+	public Number narrow() {
+		Object value = this.value;
+
+		if (value instanceof Number) {
+			return (Number) value;
+		}
+
+		Number number = narrow((String) value);
+		this.value = number;
+
+		return number;
+	}
+
+	/**
+	 * Narrow the provided literal.
+	 *
+	 * @param literal	the JSON number literal
+	 * @return			the {@link Integer}, {@link Long} or {@link Double} value
+	 */
+	private static Number narrow(String literal) {
+		try {
+			long longVal = Long.parseLong(literal);
+			int intVal = (int) longVal;
+
+			if (intVal == longVal) {
+				return intVal;
+			}
+
+			return longVal;
+		} catch (NumberFormatException ignored) {
+		}
+
+		return UwFastDoubleParser.parseDouble(literal);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int intValue() {
+		return this.narrow().intValue();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long longValue() {
+		return this.narrow().longValue();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public float floatValue() {
+		return this.narrow().floatValue();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double doubleValue() {
+		return this.narrow().doubleValue();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof UwLazyNumber)) {
+			return false;
+		}
+
+		return this.narrow().equals(((UwLazyNumber) obj).narrow());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		return this.narrow().hashCode();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return this.value.toString();
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * A GraalVM native-image metadata generator.
+ *
+ * <p>Emits a {@code reflect-config.json} file w/ the user classes
+ * reachable from the provided root types, so Gson is able to bind
+ * their fields and constructors in a native image. The library
+ * itself loads no resources and instantiates its adapters directly,
+ * thus needs no metadata of its own.
+ *
+ * <p><hr>
+ * <pre>{@code
+ *     java -cp <classpath> io.github.iwyfewwnt.uwgson.UwNativeImageMetadataGenerator \
+ *             src/main/resources/META-INF/native-image/<group>/<artifact> \
+ *             com.example.Payload com.example.Event
+ * }</pre>
+ * <hr>
+ */
+@SuppressWarnings("unused")
+public final class UwNativeImageMetadataGenerator {
+
+	/**
+	 * A reflection metadata file name.
+	 */
+	public static final String REFLECT_CONFIG_FILE_NAME = "reflect-config.json";
+
+	/**
+	 * Initialize a {@link UwNativeImageMetadataGenerator} instance.
+	 */
+	private UwNativeImageMetadataGenerator() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Generate the metadata for the provided root types.
+	 *
+	 * @param types			the collection of root types
+	 * @param directory		the output directory
+	 * @return				the path to the written file
+	 * @throws IOException	if an I/O error occurs
+	 */
+	public static Path generate(Collection<? extends Type> types, Path directory) throws IOException {
+		Set<String> classNames = new TreeSet<>();
+
+		for (Type type : UwTypeGraph.collect(types)) {
+			if (type instanceof ParameterizedType) {
+				type = ((ParameterizedType) type).getRawType();
+			}
+
+			if (type instanceof Class<?> && UwTypeGraph.isWalkable((Class<?>) type)) {
+				classNames.add(((Class<?>) type).getName());
+			}
+		}
+
+		Files.createDirectories(directory);
+
+		Path path = directory.resolve(REFLECT_CONFIG_FILE_NAME);
+
+		try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+			 JsonWriter jsonWriter = new JsonWriter(writer)) {
+			jsonWriter.setIndent("  ");
+
+			jsonWriter.beginArray();
+			for (String className : classNames) {
+				jsonWriter.beginObject()
+						.name("name").value(className)
+						.name("allDeclaredFields").value(true)
+						.name("allDeclaredConstructors").value(true)
+						.name("allDeclaredMethods").value(true)
+						.endObject();
+			}
+			jsonWriter.endArray();
+		}
+
+		return path;
+	}
+
+	/**
+	 * Generate the metadata from the command line.
+	 *
+	 * <p>The first argument is the output directory,
+	 * the rest are fully qualified names of the root classes.
+	 *
+	 * @param args						the command line arguments
+	 * @throws IOException				if an I/O error occurs
+	 * @throws ClassNotFoundException	if a root class isn't found
+	 */
+	public static void main(String[] args) throws IOException, ClassNotFoundException {
+		if (args.length < 2) {
+			System.err.println("Usage: <output directory> <class name>...");
+			System.exit(1);
+		}
+
+		ClassLoader classLoader = Thread.currentThread()
+				.getContextClassLoader();
+
+		List<Type> types = new ArrayList<>(args.length - 1);
+		for (int i = 1; i < args.length; i++) {
+			types.add(Class.forName(args[i], false, classLoader));
+		}
+
+		System.out.println(generate(types, Paths.get(args[0])));
+	}
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * A newline-delimited JSON batch decoder.
+ *
+ * <p>Splits the input on line boundaries w/o decoding it,
+ * and decodes batches of lines on the provided executor,
+ * either a platform thread pool or a virtual thread one.
+ * Results are delivered on the calling thread in the input
+ * order or in the completion order, and at most a bounded
+ * number of batches is in flight at a time.
+ *
+ * <p>Blank lines, {@code null} records and the ones
+ * that can't be decoded are skipped.
+ *
+ * <p><hr>
+ * <pre>{@code
+ *     new UwNdjsonDecoder<>(gson, Event.class, executor, 1024, 16, true)
+ *             .decode(path, events::add);
+ * }</pre>
+ * <hr>
+ *
+ * @param <T>	the record type
+ */
+@SuppressWarnings("unused")
+public final class UwNdjsonDecoder<T> {
+
+	/**
+	 * A record type adapter.
+	 */
+	private final TypeAdapter<T> typeAdapter;
+
+	/**
+	 * An executor to decode batches on.
+	 */
+	private final Executor executor;
+
+	/**
+	 * A maximum number of lines in a batch.
+	 */
+	private final int batchSize;
+
+	/**
+	 * A maximum number of batches in flight.
+	 */
+	private final int maxPendingBatches;
+
+	/**
+	 * Whether to deliver records in the input order.
+	 */
+	private final boolean ordered;
+
+	/**
+	 * Initialize a {@link UwNdjsonDecoder} instance.
+	 *
+	 * @param gson					the gson instance
+	 * @param type					the record type
+	 * @param executor				the executor to decode batches on
+	 * @param batchSize				the maximum number of lines in a batch
+	 * @param maxPendingBatches		the maximum number of batches in flight
+	 * @param ordered				whether to deliver records in the input order
+	 */
+	@SuppressWarnings("unchecked")
+	public UwNdjsonDecoder(Gson gson, Type type, Executor executor, int batchSize, int maxPendingBatches, boolean ordered) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("batchSize < 1");
+		}
+
+		if (maxPendingBatches < 1) {
+			throw new IllegalArgumentException("maxPendingBatches < 1");
+		}
+
+		this.typeAdapter = (TypeAdapter<T>) gson.getAdapter(TypeToken.get(type));
+		this.executor = executor;
+		this.batchSize = batchSize;
+		this.maxPendingBatches = maxPendingBatches;
+		this.ordered = ordered;
+	}
+
+	/**
+	 * Decode records from the provided file.
+	 *
+	 * @param path			the path to the UTF-8 encoded file
+	 * @param consumer		the record consumer
+	 * @throws IOException	if an I/O error occurs
+	 */
+	public void decode(Path path, Consumer<? super T> consumer) throws IOException {
+		try (InputStream in = Files.newInputStream(path)) {
+			this.decode(in, consumer);
+		}
+	}
+
+	/**
+	 * Decode records from the provided input stream.
+	 *
+	 * <p>The stream isn't closed.
+	 *
+	 * @param in			the UTF-8 encoded input stream
+	 * @param consumer		the record consumer
+	 * @throws IOException	if an I/O error occurs
+	 */
+	public void decode(InputStream in, Consumer<? super T> consumer) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+		Deque<Future<List<T>>> pending = new ArrayDeque<>(this.maxPendingBatches);
+		CompletionService<List<T>> completionService = this.ordered
+				? null : new ExecutorCompletionService<>(this.executor);
+
+		try {
+			List<String> batch = new ArrayList<>(this.batchSize);
+
+			String line;
+			while ((line = reader.readLine()) != null) {
+				batch.add(line);
+
+				if (batch.size() < this.batchSize) {
+					continue;
+				}
+
+				this.submit(batch, pending, completionService);
+				batch = new ArrayList<>(this.batchSize);
+
+				if (pending.size() >= this.maxPendingBatches) {
+					this.deliver(pending, completionService, consumer);
+				}
+			}
+
+			if (!batch.isEmpty()) {
+				this.submit(batch, pending, completionService);
+			}
+
+			while (!pending.isEmpty()) {
+				this.deliver(pending, completionService, consumer);
+			}
+		} finally {
+			for (Future<List<T>> future : pending) {
+				future.cancel(true);
+			}
+		}
+	}
+
+	/**
+	 * Submit a batch of lines for decoding.
+	 *
+	 * @param batch					the batch of lines
+	 * @param pending				the pending batch queue
+	 * @param completionService		the completion service or {@code null} if ordered
+	 */
+	private void submit(List<String> batch, Deque<Future<List<T>>> pending, CompletionService<List<T>> completionService) {
+		Callable<List<T>> task = () -> this.decodeBatch(batch);
+
+		if (completionService != null) {
+			pending.add(completionService.submit(task));
+			return;
+		}
+
+		FutureTask<List<T>> future = new FutureTask<>(task);
+		pending.add(future);
+
+		this.executor.execute(future);
+	}
+
+	/**
+	 * Wait for a batch and deliver its records.
+	 *
+	 * <p>Takes the oldest batch if ordered,
+	 * otherwise the first completed one.
+	 *
+	 * @param pending				the pending batch queue
+	 * @param completionService		the completion service or {@code null} if ordered
+	 * @param consumer				the record consumer
+	 * @throws IOException			if the wait is interrupted or the batch failed
+	 */
+	private void deliver(
+			Deque<Future<List<T>>> pending,
+			CompletionService<List<T>> completionService,
+			Consumer<? super T> consumer
+	) throws IOException {
+		List<T> records;
+
+		try {
+			if (completionService != null) {
+				Future<List<T>> future = completionService.take();
+				pending.remove(future);
+
+				records = future.get();
+			} else {
+				records = pending.poll()
+						.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread()
+					.interrupt();
+
+			throw new InterruptedIOException("Interrupted while waiting for a batch");
+		} catch (ExecutionException e) {
+			throw new IOException("Unable to decode a batch", e.getCause());
+		}
+
+		for (T record : records) {
+			consumer.accept(record);
+		}
+	}
+
+	/**
+	 * Decode a batch of lines.
+	 *
+	 * <p>Each line is read leniently and must be fully consumed,
+	 * as by {@link Gson#fromJson(String, Type)}.
+	 *
+	 * @param batch		the batch of lines
+	 * @return			the list of decoded records
+	 */
+	private List<T> decodeBatch(List<String> batch) {
+		List<T> records = new ArrayList<>(batch.size());
+
+		for (String line : batch) {
+			if (line.trim().isEmpty()) {
+				continue;
+			}
+
+			try {
+				JsonReader reader = new JsonReader(new StringReader(line));
+				reader.setLenient(true);
+
+				T record = this.typeAdapter.read(reader);
+
+				if (reader.peek() != JsonToken.END_DOCUMENT) {
+					throw new JsonSyntaxException("The line isn't fully consumed");
+				}
+
+				if (record != null) {
+					records.add(record);
+				}
+			} catch (Throwable t) {
+				t.printStackTrace();
+			}
+		}
+
+		return records;
+	}
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson;
+
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A field projection type adapter factory.
+ *
+ * <p>Reads only the registered JSON paths of a root type
+ * and skips everything else at the token level, so unwanted
+ * subtrees are never materialized. The projected tree is then
+ * handed over to the next adapter for the type, thus it must be
+ * registered after the {@link UwTypeAdapterFactory}.
+ *
+ * <p>Paths are dot-separated JSON member names, a path
+ * keeps the whole subtree it ends at, and the arrays
+ * on the way apply the rest of the path to every element.
+ * Projections must be registered before the {@link Gson}
+ * instance resolves an adapter for the type.
+ *
+ * <p><hr>
+ * <pre>{@code
+ *     new GsonBuilder()
+ *             .registerTypeAdapterFactory(new UwTypeAdapterFactory())
+ *             .registerTypeAdapterFactory(new UwProjectionTypeAdapterFactory()
+ *                     .project(Event.class, "id", "user.name", "tags"))
+ *             .create();
+ * }</pre>
+ * <hr>
+ */
+@SuppressWarnings("unused")
+public final class UwProjectionTypeAdapterFactory implements TypeAdapterFactory {
+
+	/**
+	 * A path separator.
+	 */
+	private static final String PATH_SEPARATOR = "\\.";
+
+	/**
+	 * A projection cache by root type.
+	 */
+	private final ConcurrentMap<Type, Node> projections = new ConcurrentHashMap<>();
+
+	/**
+	 * Initialize a {@link UwProjectionTypeAdapterFactory} instance.
+	 */
+	public UwProjectionTypeAdapterFactory() {
+	}
+
+	/**
+	 * Register the JSON paths to keep for the provided root type.
+	 *
+	 * @param type		the root type
+	 * @param paths		the array of dot-separated JSON paths
+	 * @return			this factory
+	 */
+	public UwProjectionTypeAdapterFactory project(Type type, String... paths) {
+		this.projections.compute(TypeToken.get(type).getType(), (k, root) -> {
+			Node node = root != null ? root : Node.EMPTY;
+
+			for (String path : paths) {
+				node = node.withPath(path.split(PATH_SEPARATOR), 0);
+			}
+
+			return node;
+		});
+
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		Node root = this.projections.get(type.getType());
+		if (root == null) {
+			return null;
+		}
+
+		TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+		TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
+
+		return new TypeAdapter<T>() {
+
+			@Override
+			public void write(JsonWriter out, T value) throws IOException {
+				delegate.write(out, value);
+			}
+
+			@Override
+			public T read(JsonReader in) throws IOException {
+				return delegate.fromJsonTree(readProjected(in, root, elementAdapter));
+			}
+		};
+	}
+
+	/**
+	 * Read a JSON element keeping only the paths of the provided node.
+	 *
+	 * @param in				the JSON reader
+	 * @param node				the projection node
+	 * @param elementAdapter	the JSON element adapter
+	 * @return					the projected JSON element
+	 * @throws IOException		if an I/O error occurs
+	 */
+	private static JsonElement readProjected(JsonReader in, Node node, TypeAdapter<JsonElement> elementAdapter)
+			throws IOException {
+		if (node.children == null) {
+			return elementAdapter.read(in);
+		}
+
+		JsonToken token = in.peek();
+
+		if (token == JsonToken.BEGIN_OBJECT) {
+			JsonObject jsonObject = new JsonObject();
+
+			in.beginObject();
+			while (in.hasNext()) {
+				String name = in.nextName();
+				Node child = node.children.get(name);
+
+				if (child == null) {
+					in.skipValue();
+					continue;
+				}
+
+				jsonObject.add(name, readProjected(in, child, elementAdapter));
+			}
+			in.endObject();
+
+			return jsonObject;
+		}
+
+		if (token == JsonToken.BEGIN_ARRAY) {
+			JsonArray jsonArray = new JsonArray();
+
+			in.beginArray();
+			while (in.hasNext()) {
+				jsonArray.add(readProjected(in, node, elementAdapter));
+			}
+			in.endArray();
+
+			return jsonArray;
+		}
+
+		return elementAdapter.read(in);
+	}
+
+	/**
+	 * An immutable projection node.
+	 *
+	 * <p>Registering a path copies the nodes along it,
+	 * so adapters keep reading the tree they were created w/.
+	 */
+	private static final class Node {
+
+		/**
+		 * A node that keeps the whole subtree.
+		 */
+		private static final Node KEEP_ALL = new Node(null);
+
+		/**
+		 * A node that keeps nothing.
+		 */
+		private static final Node EMPTY = new Node(Collections.emptyMap());
+
+		/**
+		 * An unmodifiable child node map by JSON member name
+		 * or {@code null} to keep the whole subtree.
+		 */
+		private final Map<String, Node> children;
+
+		/**
+		 * Initialize a {@link Node} instance.
+		 *
+		 * @param children	the unmodifiable child node map or {@code null}
+		 */
+		private Node(Map<String, Node> children) {
+			this.children = children;
+		}
+
+		/**
+		 * Get a copy of this node w/ the provided path.
+		 *
+		 * @param names		the array of JSON member names
+		 * @param index		the index of the first name to add
+		 * @return			the node or this one if the path is already kept
+		 */
+		private Node withPath(String[] names, int index) {
+			if (this.children == null) {
+				return this;
+			}
+
+			if (index == names.length) {
+				return KEEP_ALL;
+			}
+
+			Node child = this.children.get(names[index]);
+			Node newChild = (child != null ? child : EMPTY).withPath(names, index + 1);
+
+			if (newChild == child) {
+				return this;
+			}
+
+			Map<String, Node> children = new HashMap<>(this.children);
+			children.put(names[index], newChild);
+
+			return new Node(Collections.unmodifiableMap(children));
+		}
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * A record type adapter factory.
+ *
+ * <p>Records are available since Java 16, so this Java 8 version
+ * recognizes none of them. The Java 16+ version is shipped in
+ * the multi-release layer of the JAR.
+ *
+ * <p><hr>
+ * <pre>{@code
+ *     new GsonBuilder()
+ *             .registerTypeAdapterFactory(new UwTypeAdapterFactory())
+ *             .registerTypeAdapterFactory(new UwRecordTypeAdapterFactory())
+ *             .create();
+ * }</pre>
+ * <hr>
+ */
+@SuppressWarnings("unused")
+public final class UwRecordTypeAdapterFactory implements TypeAdapterFactory {
+
+	/**
+	 * Initialize a {@link UwRecordTypeAdapterFactory} instance.
+	 */
+	public UwRecordTypeAdapterFactory() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		return null;
+	}
+}
@@ -16,12 +16,16 @@
 
 package io.github.iwyfewwnt.uwgson;
 
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
 import io.github.iwyfewwnt.gsonfactory.AbstractTypeAdapterFactory;
+import io.github.iwyfewwnt.uwgson.adapters.*;
+import io.github.iwyfewwnt.uwgson.collections.UwCanonicalizationCache;
 import io.github.iwyfewwnt.uwgson.deserializers.*;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.*;
 
 /**
  * A type adapter factory.
@@ -37,59 +41,296 @@ import java.util.Set;
 @SuppressWarnings("unused")
 public final class UwTypeAdapterFactory extends AbstractTypeAdapterFactory {
 
+	/**
+	 * A shared {@link UwStringJsonDeserializer} instance.
+	 */
+	private final UwStringJsonDeserializer stringJsonDeserializer = new UwStringJsonDeserializer();
+
+	/**
+	 * A shared {@link UwBooleanJsonDeserializer} instance.
+	 */
+	private final UwBooleanJsonDeserializer booleanJsonDeserializer = new UwBooleanJsonDeserializer();
+
+	/**
+	 * A shared {@link UwByteJsonDeserializer} instance.
+	 */
+	private final UwByteJsonDeserializer byteJsonDeserializer = new UwByteJsonDeserializer();
+
+	/**
+	 * A shared {@link UwShortJsonDeserializer} instance.
+	 */
+	private final UwShortJsonDeserializer shortJsonDeserializer = new UwShortJsonDeserializer();
+
+	/**
+	 * A shared {@link UwIntegerJsonDeserializer} instance.
+	 */
+	private final UwIntegerJsonDeserializer integerJsonDeserializer = new UwIntegerJsonDeserializer();
+
+	/**
+	 * A shared {@link UwLongJsonDeserializer} instance.
+	 */
+	private final UwLongJsonDeserializer longJsonDeserializer = new UwLongJsonDeserializer();
+
+	/**
+	 * A shared {@link UwFloatJsonDeserializer} instance.
+	 */
+	private final UwFloatJsonDeserializer floatJsonDeserializer = new UwFloatJsonDeserializer();
+
+	/**
+	 * A shared {@link UwDoubleJsonDeserializer} instance.
+	 */
+	private final UwDoubleJsonDeserializer doubleJsonDeserializer = new UwDoubleJsonDeserializer();
+
+	/**
+	 * A shared {@link UwBooleanTypeAdapter} instance.
+	 */
+	private final UwBooleanTypeAdapter booleanTypeAdapter = new UwBooleanTypeAdapter();
+
+	/**
+	 * A shared {@link UwIntTypeAdapter} instance.
+	 */
+	private final UwIntTypeAdapter intTypeAdapter = new UwIntTypeAdapter();
+
+	/**
+	 * A shared {@link UwLongTypeAdapter} instance.
+	 */
+	private final UwLongTypeAdapter longTypeAdapter = new UwLongTypeAdapter();
+
+	/**
+	 * A shared {@link UwDoubleTypeAdapter} instance.
+	 */
+	private final UwDoubleTypeAdapter doubleTypeAdapter = new UwDoubleTypeAdapter();
+
+	/**
+	 * A shared {@link UwIntArrayTypeAdapter} instance.
+	 */
+	private final UwIntArrayTypeAdapter intArrayTypeAdapter = new UwIntArrayTypeAdapter();
+
+	/**
+	 * A shared {@link UwLongArrayTypeAdapter} instance.
+	 */
+	private final UwLongArrayTypeAdapter longArrayTypeAdapter = new UwLongArrayTypeAdapter();
+
+	/**
+	 * A shared {@link UwDoubleArrayTypeAdapter} instance.
+	 */
+	private final UwDoubleArrayTypeAdapter doubleArrayTypeAdapter = new UwDoubleArrayTypeAdapter();
+
+	/**
+	 * A shared {@link UwStringArrayTypeAdapter} instance.
+	 */
+	private final UwStringArrayTypeAdapter stringArrayTypeAdapter = new UwStringArrayTypeAdapter();
+
+	/**
+	 * A shared {@link UwByteArrayJsonDeserializer} instance.
+	 */
+	private final UwByteArrayJsonDeserializer byteArrayJsonDeserializer = new UwByteArrayJsonDeserializer();
+
+	/**
+	 * A shared {@link UwByteBufferJsonDeserializer} instance.
+	 */
+	private final UwByteBufferJsonDeserializer byteBufferJsonDeserializer = new UwByteBufferJsonDeserializer();
+
+	/**
+	 * A shared {@link UwUnmodifiableListDeserializer} instance.
+	 */
+	private final UwUnmodifiableListDeserializer unmodifiableListDeserializer;
+
+	/**
+	 * A shared {@link UwUnmodifiableMapDeserializer} instance.
+	 */
+	private final UwUnmodifiableMapDeserializer unmodifiableMapDeserializer;
+
+	/**
+	 * A shared {@link UwUnmodifiableSetDeserializer} instance.
+	 */
+	private final UwUnmodifiableSetDeserializer unmodifiableSetDeserializer;
+
+	/**
+	 * A shared {@link UwUnmodifiableSortedMapDeserializer} instance.
+	 */
+	private final UwUnmodifiableSortedMapDeserializer unmodifiableSortedMapDeserializer = new UwUnmodifiableSortedMapDeserializer();
+
+	/**
+	 * A shared {@link UwUnmodifiableSortedSetDeserializer} instance.
+	 */
+	private final UwUnmodifiableSortedSetDeserializer unmodifiableSortedSetDeserializer = new UwUnmodifiableSortedSetDeserializer();
+
+	/**
+	 * A shared {@link UwLazyNumberTypeAdapter} instance.
+	 */
+	private final UwLazyNumberTypeAdapter lazyNumberTypeAdapter = new UwLazyNumberTypeAdapter();
+
 	/**
 	 * Initialize a {@link UwTypeAdapterFactory} instance.
+	 *
+	 * <p>Unmodifiable lists, maps and sets of strings, boxed primitives,
+	 * enums or nested collections of those structurally equal
+	 * to a recently decoded one are replaced by it. In the dynamic
+	 * objects mode, their {@link Object} elements and values
+	 * are decoded as by {@link UwObjectJsonDeserializer}.
+	 *
+	 * @param cache				the canonicalization cache or {@code null}
+	 * @param dynamicObjects	whether to use the dynamic objects mode
+	 */
+	public UwTypeAdapterFactory(UwCanonicalizationCache cache, boolean dynamicObjects) {
+		this.unmodifiableListDeserializer = new UwUnmodifiableListDeserializer(cache, dynamicObjects);
+		this.unmodifiableMapDeserializer = new UwUnmodifiableMapDeserializer(cache, dynamicObjects);
+		this.unmodifiableSetDeserializer = new UwUnmodifiableSetDeserializer(cache, dynamicObjects);
+	}
+
+	/**
+	 * Initialize a {@link UwTypeAdapterFactory} instance.
+	 *
+	 * <p>Wraps around {@link #UwTypeAdapterFactory(UwCanonicalizationCache, boolean)}
+	 * and doesn't use the dynamic objects mode.
+	 *
+	 * @param cache		the canonicalization cache or {@code null}
+	 */
+	public UwTypeAdapterFactory(UwCanonicalizationCache cache) {
+		this(cache, false);
+	}
+
+	/**
+	 * Initialize a {@link UwTypeAdapterFactory} instance.
+	 *
+	 * <p>Wraps around {@link #UwTypeAdapterFactory(UwCanonicalizationCache)}
+	 * and uses no canonicalization cache.
 	 */
 	public UwTypeAdapterFactory() {
+		this(null);
+	}
+
+	/**
+	 * Resolve type adapters for the provided root types
+	 * and every type reachable from them.
+	 *
+	 * <p>Walks element, key and value types, array components
+	 * and fields of user classes, so the adapters are cached
+	 * by the provided {@link Gson} instance at boot
+	 * instead of on the first request.
+	 *
+	 * @param gson		the gson instance to warm up
+	 * @param types		the collection of root types
+	 * @return			the set of resolved types
+	 */
+	public static Set<Type> prewarm(Gson gson, Collection<? extends Type> types) {
+		Set<Type> resolved = new LinkedHashSet<>();
+
+		for (Type type : UwTypeGraph.collect(types)) {
+			try {
+				gson.getAdapter(TypeToken.get(type));
+				resolved.add(type);
+			} catch (Throwable t) {
+				t.printStackTrace();
+			}
+		}
+
+		return resolved;
 	}
 
 	/**
 	 * {@inheritDoc}
+	 *
+	 * <p>Adapters are stateless and shared by all threads,
+	 * so no adapter is created on the lookup path.
 	 */
 	@Override
 	protected Object initTypeAdapter(Class<?> clazz) {
 		if (clazz == String.class) {
-			return new UwStringJsonDeserializer();
+			return this.stringJsonDeserializer;
 		}
 
 		if (clazz == Boolean.class) {
-			return new UwBooleanJsonDeserializer();
+			return this.booleanJsonDeserializer;
 		}
 
 		if (clazz == Byte.class) {
-			return new UwByteJsonDeserializer();
+			return this.byteJsonDeserializer;
 		}
 
 		if (clazz == Short.class) {
-			return new UwShortJsonDeserializer();
+			return this.shortJsonDeserializer;
 		}
 
 		if (clazz == Integer.class) {
-			return new UwIntegerJsonDeserializer();
+			return this.integerJsonDeserializer;
 		}
 
 		if (clazz == Long.class) {
-			return new UwLongJsonDeserializer();
+			return this.longJsonDeserializer;
 		}
 
 		if (clazz == Float.class) {
-			return new UwFloatJsonDeserializer();
+			return this.floatJsonDeserializer;
 		}
 
 		if (clazz == Double.class) {
-			return new UwDoubleJsonDeserializer();
+			return this.doubleJsonDeserializer;
+		}
+
+		if (clazz == boolean.class) {
+			return this.booleanTypeAdapter;
+		}
+
+		if (clazz == int.class) {
+			return this.intTypeAdapter;
+		}
+
+		if (clazz == long.class) {
+			return this.longTypeAdapter;
+		}
+
+		if (clazz == double.class) {
+			return this.doubleTypeAdapter;
+		}
+
+		if (clazz == int[].class) {
+			return this.intArrayTypeAdapter;
+		}
+
+		if (clazz == long[].class) {
+			return this.longArrayTypeAdapter;
+		}
+
+		if (clazz == double[].class) {
+			return this.doubleArrayTypeAdapter;
+		}
+
+		if (clazz == String[].class) {
+			return this.stringArrayTypeAdapter;
+		}
+
+		if (clazz == byte[].class) {
+			return this.byteArrayJsonDeserializer;
+		}
+
+		if (clazz == ByteBuffer.class) {
+			return this.byteBufferJsonDeserializer;
 		}
 
 		if (clazz == List.class) {
-			return new UwUnmodifiableListDeserializer();
+			return this.unmodifiableListDeserializer;
 		}
 
 		if (clazz == Map.class) {
-			return new UwUnmodifiableMapDeserializer();
+			return this.unmodifiableMapDeserializer;
 		}
 
 		if (clazz == Set.class) {
-			return new UwUnmodifiableSetDeserializer();
+			return this.unmodifiableSetDeserializer;
+		}
+
+		if (clazz == SortedMap.class || clazz == NavigableMap.class) {
+			return this.unmodifiableSortedMapDeserializer;
+		}
+
+		if (clazz == SortedSet.class || clazz == NavigableSet.class) {
+			return this.unmodifiableSortedSetDeserializer;
+		}
+
+		if (clazz == UwLazyNumber.class) {
+			return this.lazyNumberTypeAdapter;
 		}
 
 		return null;
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson;
+
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * A graph of types reachable from a set of root types.
+ *
+ * <p>Walks type arguments, array components and the declared
+ * fields of non-JDK classes, including their superclasses.
+ * Field types of a parameterized class are resolved against
+ * its type arguments, as by Gson's reflective binder.
+ */
+final class UwTypeGraph {
+
+	/**
+	 * Initialize a {@link UwTypeGraph} instance.
+	 */
+	private UwTypeGraph() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Collect types reachable from the provided ones.
+	 *
+	 * <p>Type variables are skipped.
+	 *
+	 * @param types		the collection of root types
+	 * @return			the set of reachable types in the discovery order
+	 */
+	static Set<Type> collect(Collection<? extends Type> types) {
+		Set<Type> visited = new LinkedHashSet<>();
+		Deque<Type> queue = new ArrayDeque<>(types);
+
+		while (!queue.isEmpty()) {
+			Type type = queue.poll();
+
+			if (type instanceof TypeVariable<?> || !visited.add(type)) {
+				continue;
+			}
+
+			if (type instanceof ParameterizedType) {
+				ParameterizedType parameterizedType = (ParameterizedType) type;
+
+				Type rawType = parameterizedType.getRawType();
+				Type[] typeArguments = parameterizedType.getActualTypeArguments();
+
+				if (rawType instanceof Class<?> && isWalkable((Class<?>) rawType)) {
+					visited.add(rawType);
+					walkFields((Class<?>) rawType, typeArguments, queue);
+				} else {
+					queue.add(rawType);
+				}
+
+				Collections.addAll(queue, typeArguments);
+			} else if (type instanceof GenericArrayType) {
+				queue.add(((GenericArrayType) type).getGenericComponentType());
+			} else if (type instanceof WildcardType) {
+				WildcardType wildcardType = (WildcardType) type;
+
+				Collections.addAll(queue, wildcardType.getUpperBounds());
+				Collections.addAll(queue, wildcardType.getLowerBounds());
+			} else if (type instanceof Class<?>) {
+				Class<?> clazz = (Class<?>) type;
+
+				if (clazz.isArray()) {
+					queue.add(clazz.getComponentType());
+				} else if (isWalkable(clazz)) {
+					walkFields(clazz, null, queue);
+				}
+			}
+		}
+
+		return visited;
+	}
+
+	/**
+	 * Queue the generic superclass and the declared field types
+	 * of the provided class resolved against its type arguments.
+	 *
+	 * @param clazz				the class
+	 * @param typeArguments		the type arguments or {@code null} if the class is raw
+	 * @param queue				the type queue
+	 */
+	private static void walkFields(Class<?> clazz, Type[] typeArguments, Deque<Type> queue) {
+		TypeVariable<?>[] typeVariables = clazz.getTypeParameters();
+
+		Type superclass = clazz.getGenericSuperclass();
+
+		if (superclass != null && isWalkable(TypeToken.get(superclass).getRawType())) {
+			queue.add(resolve(superclass, typeVariables, typeArguments));
+		}
+
+		for (Field field : clazz.getDeclaredFields()) {
+			int modifiers = field.getModifiers();
+
+			if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) {
+				continue;
+			}
+
+			queue.add(resolve(field.getGenericType(), typeVariables, typeArguments));
+		}
+	}
+
+	/**
+	 * Resolve a type against the provided type arguments.
+	 *
+	 * <p>Type variables are substituted recursively through
+	 * parameterized, generic array and wildcard types,
+	 * so {@code List<T>} of a {@code Page<String>} becomes {@code List<String>}.
+	 *
+	 * @param type				the type
+	 * @param typeVariables		the type variables of the owning class
+	 * @param typeArguments		the type arguments or {@code null} to keep the variables
+	 * @return					the resolved type or the same one if nothing to resolve
+	 */
+	static Type resolve(Type type, TypeVariable<?>[] typeVariables, Type[] typeArguments) {
+		if (typeArguments == null) {
+			return type;
+		}
+
+		if (type instanceof TypeVariable<?>) {
+			for (int i = 0; i < typeVariables.length; i++) {
+				if (typeVariables[i].equals(type)) {
+					return typeArguments[i];
+				}
+			}
+
+			return type;
+		}
+
+		if (type instanceof ParameterizedType) {
+			ParameterizedType parameterizedType = (ParameterizedType) type;
+
+			Type[] arguments = parameterizedType.getActualTypeArguments();
+			boolean changed = false;
+
+			for (int i = 0; i < arguments.length; i++) {
+				Type argument = resolve(arguments[i], typeVariables, typeArguments);
+
+				if (argument != arguments[i]) {
+					arguments[i] = argument;
+					changed = true;
+				}
+			}
+
+			if (!changed) {
+				return type;
+			}
+
+			return TypeToken.getParameterized(parameterizedType.getRawType(), arguments).getType();
+		}
+
+		if (type instanceof GenericArrayType) {
+			Type componentType = ((GenericArrayType) type).getGenericComponentType();
+			Type resolvedComponentType = resolve(componentType, typeVariables, typeArguments);
+
+			if (resolvedComponentType == componentType) {
+				return type;
+			}
+
+			return TypeToken.getArray(resolvedComponentType).getType();
+		}
+
+		if (type instanceof WildcardType) {
+			WildcardType wildcardType = (WildcardType) type;
+
+			Type[] lowerBounds = wildcardType.getLowerBounds();
+			Type bound = lowerBounds.length > 0 ? lowerBounds[0] : wildcardType.getUpperBounds()[0];
+
+			Type resolvedBound = resolve(bound, typeVariables, typeArguments);
+
+			return resolvedBound != bound ? resolvedBound : type;
+		}
+
+		return type;
+	}
+
+	/**
+	 * Check if the provided class is a user class
+	 * whose fields should be walked.
+	 *
+	 * @param clazz		the class
+	 * @return			the boolean value
+	 */
+	static boolean isWalkable(Class<?> clazz) {
+		if (clazz.isPrimitive() || clazz.isArray() || clazz.isInterface()) {
+			return false;
+		}
+
+		String name = clazz.getName();
+
+		return !name.startsWith("java.")
+				&& !name.startsWith("javax.")
+				&& !name.startsWith("jdk.")
+				&& !name.startsWith("sun.")
+				&& !name.startsWith("com.google.gson.");
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson.adapters;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * A primitive {@code boolean} type adapter.
+ *
+ * <p>Reads the value straight from the token stream,
+ * a JSON {@code null}, an empty or a {@code "null"} string
+ * are mapped to the default value.
+ */
+@SuppressWarnings("unused")
+public final class UwBooleanTypeAdapter extends TypeAdapter<Boolean> {
+
+	/**
+	 * A default value.
+	 */
+	private final boolean defaultValue;
+
+	/**
+	 * Initialize a {@link UwBooleanTypeAdapter} instance.
+	 *
+	 * @param defaultValue	the default value
+	 */
+	public UwBooleanTypeAdapter(boolean defaultValue) {
+		this.defaultValue = defaultValue;
+	}
+
+	/**
+	 * Initialize a {@link UwBooleanTypeAdapter} instance.
+	 *
+	 * <p>Wraps around {@link #UwBooleanTypeAdapter(boolean)}
+	 * and uses {@code false} as the default value.
+	 */
+	public UwBooleanTypeAdapter() {
+		this(false);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(JsonWriter out, Boolean value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+			return;
+		}
+
+		out.value(value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Boolean read(JsonReader in) throws IOException {
+		JsonToken token = in.peek();
+
+		try {
+			if (token == JsonToken.BOOLEAN) {
+				return in.nextBoolean();
+			}
+
+			if (token == JsonToken.NUMBER || token == JsonToken.STRING) {
+				String str = in.nextString();
+
+				if (str.isEmpty() || str.equals("null")) {
+					return this.defaultValue;
+				}
+
+				if (str.equals("true") || str.equals("1")) {
+					return true;
+				}
+
+				if (str.equals("false") || str.equals("0")) {
+					return false;
+				}
+
+				throw new UnsupportedOperationException(
+						"Unable to read the <boolean> type from the <" + str + "> value"
+				);
+			}
+
+			if (token == JsonToken.NULL) {
+				in.nextNull();
+				return this.defaultValue;
+			}
+
+			in.skipValue();
+
+			throw new UnsupportedOperationException(
+					"Unable to read the <boolean> type from the <" + token + "> token"
+			);
+		} catch (RuntimeException e) {
+			e.printStackTrace();
+		}
+
+		return this.defaultValue;
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson.adapters;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * A primitive {@code double} type adapter.
+ *
+ * <p>Reads the value straight from the token stream,
+ * a JSON {@code null}, an empty or a {@code "null"} string
+ * are mapped to the default value.
+ */
+@SuppressWarnings("unused")
+public final class UwDoubleTypeAdapter extends TypeAdapter<Double> {
+
+	/**
+	 * A default value.
+	 */
+	private final double defaultValue;
+
+	/**
+	 * Initialize a {@link UwDoubleTypeAdapter} instance.
+	 *
+	 * @param defaultValue	the default value
+	 */
+	public UwDoubleTypeAdapter(double defaultValue) {
+		this.defaultValue = defaultValue;
+	}
+
+	/**
+	 * Initialize a {@link UwDoubleTypeAdapter} instance.
+	 *
+	 * <p>Wraps around {@link #UwDoubleTypeAdapter(double)}
+	 * and uses {@code 0.0D} as the default value.
+	 */
+	public UwDoubleTypeAdapter() {
+		this(0.0D);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(JsonWriter out, Double value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+			return;
+		}
+
+		out.value(value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Double read(JsonReader in) throws IOException {
+		return UwPrimitiveReader.readDouble(in, this.defaultValue);
+	}
+}
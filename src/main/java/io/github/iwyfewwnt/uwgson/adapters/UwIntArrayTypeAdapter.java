@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson.adapters;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * An {@code int[]} type adapter.
+ *
+ * <p>Reads elements straight from the token stream into
+ * a growable buffer that is trimmed once at the end,
+ * the ones that can't be read become {@code 0}.
+ */
+@SuppressWarnings("unused")
+public final class UwIntArrayTypeAdapter extends TypeAdapter<int[]> {
+
+	/**
+	 * An initial buffer capacity.
+	 */
+	private static final int INITIAL_CAPACITY = 16;
+
+	/**
+	 * Initialize an {@link UwIntArrayTypeAdapter} instance.
+	 */
+	public UwIntArrayTypeAdapter() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(JsonWriter out, int[] value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+			return;
+		}
+
+		out.beginArray();
+		for (int element : value) {
+			out.value(element);
+		}
+		out.endArray();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int[] read(JsonReader in) throws IOException {
+		JsonToken token = in.peek();
+
+		try {
+			if (token == JsonToken.BEGIN_ARRAY) {
+				int[] buffer = new int[INITIAL_CAPACITY];
+				int size = 0;
+
+				in.beginArray();
+				while (in.hasNext()) {
+					if (size == buffer.length) {
+						buffer = Arrays.copyOf(buffer, size + (size >> 1));
+					}
+
+					buffer[size++] = UwPrimitiveReader.readInt(in, 0);
+				}
+				in.endArray();
+
+				if (size == 0) {
+					return null;
+				}
+
+				return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+			}
+
+			if (token == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			in.skipValue();
+
+			throw new UnsupportedOperationException(
+					"Unable to read the <int[]> type from the <" + token + "> token"
+			);
+		} catch (RuntimeException e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+}
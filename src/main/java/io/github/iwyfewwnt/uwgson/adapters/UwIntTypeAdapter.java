@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson.adapters;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * A primitive {@code int} type adapter.
+ *
+ * <p>Reads the value straight from the token stream,
+ * a JSON {@code null}, an empty or a {@code "null"} string
+ * are mapped to the default value. Numbers are parsed as by
+ * the {@link io.github.iwyfewwnt.uwgson.deserializers.UwIntegerJsonDeserializer},
+ * so the fractional ones map to the default value too.
+ */
+@SuppressWarnings("unused")
+public final class UwIntTypeAdapter extends TypeAdapter<Integer> {
+
+	/**
+	 * A default value.
+	 */
+	private final int defaultValue;
+
+	/**
+	 * Initialize a {@link UwIntTypeAdapter} instance.
+	 *
+	 * @param defaultValue	the default value
+	 */
+	public UwIntTypeAdapter(int defaultValue) {
+		this.defaultValue = defaultValue;
+	}
+
+	/**
+	 * Initialize a {@link UwIntTypeAdapter} instance.
+	 *
+	 * <p>Wraps around {@link #UwIntTypeAdapter(int)}
+	 * and uses {@code 0} as the default value.
+	 */
+	public UwIntTypeAdapter() {
+		this(0);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(JsonWriter out, Integer value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+			return;
+		}
+
+		out.value(value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Integer read(JsonReader in) throws IOException {
+		return UwPrimitiveReader.readInt(in, this.defaultValue);
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson.adapters;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.github.iwyfewwnt.uwgson.UwLazyNumber;
+
+import java.io.IOException;
+
+/**
+ * A {@link UwLazyNumber} type adapter.
+ *
+ * <p>Writes the number as a JSON number
+ * instead of its reflective field layout.
+ */
+@SuppressWarnings("unused")
+public final class UwLazyNumberTypeAdapter extends TypeAdapter<UwLazyNumber> {
+
+	/**
+	 * Initialize a {@link UwLazyNumberTypeAdapter} instance.
+	 */
+	public UwLazyNumberTypeAdapter() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(JsonWriter out, UwLazyNumber value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+			return;
+		}
+
+		out.value(value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public UwLazyNumber read(JsonReader in) throws IOException {
+		JsonToken token = in.peek();
+
+		if (token == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+
+		String str = in.nextString();
+
+		if (str.isEmpty() || str.equals("null")) {
+			return null;
+		}
+
+		return new UwLazyNumber(str);
+	}
+}
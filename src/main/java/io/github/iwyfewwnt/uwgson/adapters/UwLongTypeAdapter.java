@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson.adapters;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * A primitive {@code long} type adapter.
+ *
+ * <p>Reads the value straight from the token stream,
+ * a JSON {@code null}, an empty or a {@code "null"} string
+ * are mapped to the default value. Numbers are parsed as by
+ * the {@link io.github.iwyfewwnt.uwgson.deserializers.UwLongJsonDeserializer},
+ * so the fractional ones map to the default value too.
+ */
+@SuppressWarnings("unused")
+public final class UwLongTypeAdapter extends TypeAdapter<Long> {
+
+	/**
+	 * A default value.
+	 */
+	private final long defaultValue;
+
+	/**
+	 * Initialize a {@link UwLongTypeAdapter} instance.
+	 *
+	 * @param defaultValue	the default value
+	 */
+	public UwLongTypeAdapter(long defaultValue) {
+		this.defaultValue = defaultValue;
+	}
+
+	/**
+	 * Initialize a {@link UwLongTypeAdapter} instance.
+	 *
+	 * <p>Wraps around {@link #UwLongTypeAdapter(long)}
+	 * and uses {@code 0L} as the default value.
+	 */
+	public UwLongTypeAdapter() {
+		this(0L);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(JsonWriter out, Long value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+			return;
+		}
+
+		out.value(value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Long read(JsonReader in) throws IOException {
+		return UwPrimitiveReader.readLong(in, this.defaultValue);
+	}
+}
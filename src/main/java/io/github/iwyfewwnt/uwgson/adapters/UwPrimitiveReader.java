@@ -0,0 +1,159 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson.adapters;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.github.iwyfewwnt.uwgson.UwFastDoubleParser;
+
+import java.io.IOException;
+
+/**
+ * A primitive value reader.
+ *
+ * <p>Shared by the primitive and primitive array type adapters.
+ * Numbers and strings are parsed from their literal the same way
+ * as by the boxed JSON deserializers, so {@code 1.0} isn't an
+ * {@code int}. A JSON {@code null}, an empty or a {@code "null"}
+ * string and the values that can't be parsed become the default one.
+ */
+final class UwPrimitiveReader {
+
+	/**
+	 * Initialize a {@link UwPrimitiveReader} instance.
+	 */
+	private UwPrimitiveReader() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Read an {@code int} value.
+	 *
+	 * @param in				the JSON reader
+	 * @param defaultValue		the default value
+	 * @return					the value
+	 * @throws IOException		if an I/O error occurs
+	 */
+	static int readInt(JsonReader in, int defaultValue) throws IOException {
+		JsonToken token = in.peek();
+
+		try {
+			if (token == JsonToken.NUMBER || token == JsonToken.STRING) {
+				String str = in.nextString();
+
+				if (str.isEmpty() || str.equals("null")) {
+					return defaultValue;
+				}
+
+				return Integer.parseInt(str);
+			}
+
+			if (token == JsonToken.NULL) {
+				in.nextNull();
+				return defaultValue;
+			}
+
+			in.skipValue();
+
+			throw new UnsupportedOperationException(
+					"Unable to read the <int> type from the <" + token + "> token"
+			);
+		} catch (RuntimeException e) {
+			e.printStackTrace();
+		}
+
+		return defaultValue;
+	}
+
+	/**
+	 * Read a {@code long} value.
+	 *
+	 * @param in				the JSON reader
+	 * @param defaultValue		the default value
+	 * @return					the value
+	 * @throws IOException		if an I/O error occurs
+	 */
+	static long readLong(JsonReader in, long defaultValue) throws IOException {
+		JsonToken token = in.peek();
+
+		try {
+			if (token == JsonToken.NUMBER || token == JsonToken.STRING) {
+				String str = in.nextString();
+
+				if (str.isEmpty() || str.equals("null")) {
+					return defaultValue;
+				}
+
+				return Long.parseLong(str);
+			}
+
+			if (token == JsonToken.NULL) {
+				in.nextNull();
+				return defaultValue;
+			}
+
+			in.skipValue();
+
+			throw new UnsupportedOperationException(
+					"Unable to read the <long> type from the <" + token + "> token"
+			);
+		} catch (RuntimeException e) {
+			e.printStackTrace();
+		}
+
+		return defaultValue;
+	}
+
+	/**
+	 * Read a {@code double} value.
+	 *
+	 * @param in				the JSON reader
+	 * @param defaultValue		the default value
+	 * @return					the value
+	 * @throws IOException		if an I/O error occurs
+	 */
+	static double readDouble(JsonReader in, double defaultValue) throws IOException {
+		JsonToken token = in.peek();
+
+		try {
+			if (token == JsonToken.NUMBER || token == JsonToken.STRING) {
+				String str = in.nextString();
+
+				if (str.isEmpty() || str.equals("null")) {
+					return defaultValue;
+				}
+
+				return UwFastDoubleParser.parseDouble(str);
+			}
+
+			if (token == JsonToken.NULL) {
+				in.nextNull();
+				return defaultValue;
+			}
+
+			in.skipValue();
+
+			throw new UnsupportedOperationException(
+					"Unable to read the <double> type from the <" + token + "> token"
+			);
+		} catch (RuntimeException e) {
+			e.printStackTrace();
+		}
+
+		return defaultValue;
+	}
+}
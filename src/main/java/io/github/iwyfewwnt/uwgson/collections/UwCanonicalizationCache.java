@@ -0,0 +1,208 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson.collections;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A size-bounded canonicalization cache for immutable values.
+ *
+ * <p>Returns a previously seen instance when the provided
+ * value is equal to it, so repeated values share one instance.
+ * The cache is a lock-free direct-mapped table indexed by the
+ * content hash, and a colliding value evicts the previous one.
+ *
+ * <p>Only immutable values must be canonicalized.
+ */
+@SuppressWarnings("unused")
+public final class UwCanonicalizationCache {
+
+	/**
+	 * A default capacity.
+	 */
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	/**
+	 * A maximum capacity.
+	 */
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	/**
+	 * A table of entries.
+	 */
+	private final AtomicReferenceArray<Entry> table;
+
+	/**
+	 * A mask to index the table.
+	 */
+	private final int mask;
+
+	/**
+	 * A hit counter.
+	 */
+	private final LongAdder hits = new LongAdder();
+
+	/**
+	 * A miss counter.
+	 */
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * An eviction counter.
+	 */
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Initialize a {@link UwCanonicalizationCache} instance.
+	 *
+	 * @param capacity	the maximum number of values, rounded up to a power of two
+	 */
+	public UwCanonicalizationCache(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("capacity < 1");
+		}
+
+		int size = capacity >= MAXIMUM_CAPACITY
+				? MAXIMUM_CAPACITY : Integer.highestOneBit((capacity << 1) - 1);
+
+		this.table = new AtomicReferenceArray<>(size);
+		this.mask = size - 1;
+	}
+
+	/**
+	 * Initialize a {@link UwCanonicalizationCache} instance.
+	 *
+	 * <p>Wraps around {@link #UwCanonicalizationCache(int)}
+	 * and uses {@link #DEFAULT_CAPACITY} as the capacity.
+	 */
+	public UwCanonicalizationCache() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Get a canonical instance of the provided value.
+	 *
+	 * @param value		the immutable value
+	 * @param <T>		the value type
+	 * @return			the previously seen equal instance or the provided value
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T canonicalize(T value) {
+		if (value == null) {
+			return null;
+		}
+
+		int hash = value.hashCode();
+		int index = (hash ^ (hash >>> 16)) & this.mask;
+
+		Entry entry = this.table.get(index);
+
+		if (entry != null && entry.hash == hash && entry.value.equals(value)) {
+			this.hits.increment();
+			return (T) entry.value;
+		}
+
+		if (entry != null) {
+			this.evictions.increment();
+		}
+
+		this.misses.increment();
+		this.table.set(index, new Entry(hash, value));
+
+		return value;
+	}
+
+	/**
+	 * Get a number of hits.
+	 *
+	 * @return	the hit count
+	 */
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Get a number of misses.
+	 *
+	 * @return	the miss count
+	 */
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * Get a number of evictions.
+	 *
+	 * @return	the eviction count
+	 */
+	public long getEvictionCount() {
+		return this.evictions.sum();
+	}
+
+	/**
+	 * Get a ratio of hits to lookups.
+	 *
+	 * @return	the hit rate or {@code 0} if there were no lookups
+	 */
+	public double getHitRate() {
+		long hits = this.getHitCount();
+		long lookups = hits + this.getMissCount();
+
+		return lookups == 0 ? 0.0D : (double) hits / lookups;
+	}
+
+	/**
+	 * Remove all values and reset the metrics.
+	 */
+	public void clear() {
+		for (int i = 0; i < this.table.length(); i++) {
+			this.table.set(i, null);
+		}
+
+		this.hits.reset();
+		this.misses.reset();
+		this.evictions.reset();
+	}
+
+	/**
+	 * A cache entry.
+	 */
+	private static final class Entry {
+
+		/**
+		 * A content hash.
+		 */
+		private final int hash;
+
+		/**
+		 * A value.
+		 */
+		private final Object value;
+
+		/**
+		 * Initialize an {@link Entry} instance.
+		 *
+		 * @param hash		the content hash
+		 * @param value		the value
+		 */
+		private Entry(int hash, Object value) {
+			this.hash = hash;
+			this.value = value;
+		}
+	}
+}
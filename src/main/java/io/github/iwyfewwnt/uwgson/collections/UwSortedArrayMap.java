@@ -0,0 +1,539 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson.collections;
+
+import java.util.*;
+
+/**
+ * An unmodifiable {@link NavigableMap} backed by parallel sorted arrays.
+ *
+ * <p>Lookups are binary searches over the key array, and views
+ * returned by {@link #subMap}, {@link #headMap}, {@link #tailMap}
+ * and {@link #navigableKeySet()} share both arrays.
+ * The {@link #descendingMap()} view is a copy.
+ *
+ * @param <K>	the key type
+ * @param <V>	the value type
+ */
+@SuppressWarnings("unused")
+public final class UwSortedArrayMap<K, V> extends AbstractMap<K, V> implements NavigableMap<K, V> {
+
+	/**
+	 * A sorted array of distinct keys.
+	 */
+	private final Object[] keys;
+
+	/**
+	 * An array of values parallel to the keys.
+	 */
+	private final Object[] values;
+
+	/**
+	 * An inclusive start index of this map.
+	 */
+	private final int fromIndex;
+
+	/**
+	 * An exclusive end index of this map.
+	 */
+	private final int toIndex;
+
+	/**
+	 * A comparator or {@code null} for the natural ordering.
+	 */
+	private final Comparator<? super K> comparator;
+
+	/**
+	 * An entry set view cache.
+	 */
+	private Set<Map.Entry<K, V>> entrySet;
+
+	/**
+	 * Initialize a {@link UwSortedArrayMap} instance.
+	 *
+	 * @param keys			the sorted array of distinct keys
+	 * @param values		the array of values parallel to the keys
+	 * @param fromIndex		the inclusive start index
+	 * @param toIndex		the exclusive end index
+	 * @param comparator	the comparator or {@code null} for the natural ordering
+	 */
+	private UwSortedArrayMap(Object[] keys, Object[] values, int fromIndex, int toIndex, Comparator<? super K> comparator) {
+		this.keys = keys;
+		this.values = values;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+		this.comparator = comparator;
+	}
+
+	/**
+	 * Create a {@link UwSortedArrayMap} instance
+	 * from the provided entries.
+	 *
+	 * <p>Entries are sorted once, and for keys equal according
+	 * to the ordering the last entry wins.
+	 *
+	 * @param entries		the collection of entries w/ non-null keys
+	 * @param comparator	the comparator or {@code null} for the natural ordering
+	 * @param <K>			the key type
+	 * @param <V>			the value type
+	 * @return				the sorted array map
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, V> UwSortedArrayMap<K, V> copyOf(
+			Collection<? extends Map.Entry<? extends K, ? extends V>> entries,
+			Comparator<? super K> comparator
+	) {
+		Map.Entry<?, ?>[] array = entries.toArray(new Map.Entry<?, ?>[0]);
+
+		Comparator<Object> keyComparator = UwSortedArraySet.asObjectComparator(comparator);
+		Arrays.sort(array, (a, b) -> UwSortedArraySet.compare(keyComparator, a.getKey(), b.getKey()));
+
+		Object[] keys = new Object[array.length];
+		Object[] values = new Object[array.length];
+
+		int size = 0;
+		for (Map.Entry<?, ?> entry : array) {
+			Object key = entry.getKey();
+
+			if (size != 0 && UwSortedArraySet.compare(comparator, keys[size - 1], key) == 0) {
+				values[size - 1] = entry.getValue();
+				continue;
+			}
+
+			keys[size] = key;
+			values[size] = entry.getValue();
+
+			size++;
+		}
+
+		if (size != array.length) {
+			keys = Arrays.copyOf(keys, size);
+			values = Arrays.copyOf(values, size);
+		}
+
+		return new UwSortedArrayMap<>(keys, values, 0, size, comparator);
+	}
+
+	/**
+	 * Search for the key in this map.
+	 *
+	 * @param key	the key
+	 * @return		the search result
+	 */
+	private int search(Object key) {
+		return UwSortedArraySet.search(this.keys, this.fromIndex, this.toIndex, key, this.comparator);
+	}
+
+	/**
+	 * Check if the provided index is in range of this map.
+	 *
+	 * @param index		the index
+	 * @return			the boolean value
+	 */
+	private boolean inRange(int index) {
+		return index >= this.fromIndex && index < this.toIndex;
+	}
+
+	/**
+	 * Get a key at the provided index.
+	 *
+	 * @param index		the index
+	 * @return			the key or {@code null} if out of range
+	 */
+	@SuppressWarnings("unchecked")
+	private K keyAt(int index) {
+		return this.inRange(index) ? (K) this.keys[index] : null;
+	}
+
+	/**
+	 * Get an entry at the provided index.
+	 *
+	 * @param index		the index
+	 * @return			the entry or {@code null} if out of range
+	 */
+	@SuppressWarnings("unchecked")
+	private Map.Entry<K, V> entryAt(int index) {
+		if (!this.inRange(index)) {
+			return null;
+		}
+
+		return new AbstractMap.SimpleImmutableEntry<>((K) this.keys[index], (V) this.values[index]);
+	}
+
+	/**
+	 * Create a view of this map in the provided range.
+	 *
+	 * @param fromIndex		the inclusive start index
+	 * @param toIndex		the exclusive end index
+	 * @return				the view
+	 */
+	private UwSortedArrayMap<K, V> view(int fromIndex, int toIndex) {
+		fromIndex = Math.max(fromIndex, this.fromIndex);
+		toIndex = Math.max(Math.min(toIndex, this.toIndex), fromIndex);
+
+		return new UwSortedArrayMap<>(this.keys, this.values, fromIndex, toIndex, this.comparator);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size() {
+		return this.toIndex - this.fromIndex;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean containsKey(Object key) {
+		if (key == null) {
+			return false;
+		}
+
+		try {
+			return this.search(key) >= 0;
+		} catch (ClassCastException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		if (key == null) {
+			return null;
+		}
+
+		try {
+			int index = this.search(key);
+
+			return index >= 0 ? (V) this.values[index] : null;
+		} catch (ClassCastException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		Set<Map.Entry<K, V>> entrySet = this.entrySet;
+
+		if (entrySet == null) {
+			this.entrySet = entrySet = new AbstractSet<Map.Entry<K, V>>() {
+
+				@Override
+				public int size() {
+					return UwSortedArrayMap.this.size();
+				}
+
+				@Override
+				public Iterator<Map.Entry<K, V>> iterator() {
+					return new Iterator<Map.Entry<K, V>>() {
+						private int index = fromIndex;
+
+						@Override
+						public boolean hasNext() {
+							return this.index < toIndex;
+						}
+
+						@Override
+						public Map.Entry<K, V> next() {
+							if (this.index >= toIndex) {
+								throw new NoSuchElementException();
+							}
+
+							return entryAt(this.index++);
+						}
+					};
+				}
+			};
+		}
+
+		return entrySet;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Collection<V> values() {
+		return new AbstractCollection<V>() {
+
+			@Override
+			public int size() {
+				return UwSortedArrayMap.this.size();
+			}
+
+			@Override
+			public Iterator<V> iterator() {
+				return new Iterator<V>() {
+					private int index = fromIndex;
+
+					@Override
+					public boolean hasNext() {
+						return this.index < toIndex;
+					}
+
+					@Override
+					@SuppressWarnings("unchecked")
+					public V next() {
+						if (this.index >= toIndex) {
+							throw new NoSuchElementException();
+						}
+
+						return (V) values[this.index++];
+					}
+				};
+			}
+		};
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Set<K> keySet() {
+		return this.navigableKeySet();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public NavigableSet<K> navigableKeySet() {
+		return new UwSortedArraySet<>(this.keys, this.fromIndex, this.toIndex, this.comparator);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public NavigableSet<K> descendingKeySet() {
+		return this.navigableKeySet()
+				.descendingSet();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public NavigableMap<K, V> descendingMap() {
+		return Collections.unmodifiableNavigableMap(new TreeMap<>(this).descendingMap());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Comparator<? super K> comparator() {
+		return this.comparator;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public K firstKey() {
+		if (this.isEmpty()) {
+			throw new NoSuchElementException();
+		}
+
+		return this.keyAt(this.fromIndex);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public K lastKey() {
+		if (this.isEmpty()) {
+			throw new NoSuchElementException();
+		}
+
+		return this.keyAt(this.toIndex - 1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map.Entry<K, V> firstEntry() {
+		return this.entryAt(this.fromIndex);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map.Entry<K, V> lastEntry() {
+		return this.entryAt(this.toIndex - 1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map.Entry<K, V> pollFirstEntry() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map.Entry<K, V> pollLastEntry() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map.Entry<K, V> lowerEntry(K key) {
+		return this.entryAt(UwSortedArraySet.lowerIndex(this.search(key)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public K lowerKey(K key) {
+		return this.keyAt(UwSortedArraySet.lowerIndex(this.search(key)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map.Entry<K, V> floorEntry(K key) {
+		return this.entryAt(UwSortedArraySet.floorIndex(this.search(key)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public K floorKey(K key) {
+		return this.keyAt(UwSortedArraySet.floorIndex(this.search(key)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map.Entry<K, V> ceilingEntry(K key) {
+		return this.entryAt(UwSortedArraySet.ceilingIndex(this.search(key)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public K ceilingKey(K key) {
+		return this.keyAt(UwSortedArraySet.ceilingIndex(this.search(key)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map.Entry<K, V> higherEntry(K key) {
+		return this.entryAt(UwSortedArraySet.higherIndex(this.search(key)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public K higherKey(K key) {
+		return this.keyAt(UwSortedArraySet.higherIndex(this.search(key)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public NavigableMap<K, V> subMap(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
+		if (UwSortedArraySet.compare(this.comparator, fromKey, toKey) > 0) {
+			throw new IllegalArgumentException("fromKey > toKey");
+		}
+
+		int fromResult = this.search(fromKey);
+		int toResult = this.search(toKey);
+
+		return this.view(
+				fromInclusive ? UwSortedArraySet.ceilingIndex(fromResult) : UwSortedArraySet.higherIndex(fromResult),
+				toInclusive ? UwSortedArraySet.higherIndex(toResult) : UwSortedArraySet.ceilingIndex(toResult)
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public NavigableMap<K, V> headMap(K toKey, boolean inclusive) {
+		int result = this.search(toKey);
+
+		return this.view(
+				this.fromIndex,
+				inclusive ? UwSortedArraySet.higherIndex(result) : UwSortedArraySet.ceilingIndex(result)
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public NavigableMap<K, V> tailMap(K fromKey, boolean inclusive) {
+		int result = this.search(fromKey);
+
+		return this.view(
+				inclusive ? UwSortedArraySet.ceilingIndex(result) : UwSortedArraySet.higherIndex(result),
+				this.toIndex
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public SortedMap<K, V> subMap(K fromKey, K toKey) {
+		return this.subMap(fromKey, true, toKey, false);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public SortedMap<K, V> headMap(K toKey) {
+		return this.headMap(toKey, false);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public SortedMap<K, V> tailMap(K fromKey) {
+		return this.tailMap(fromKey, true);
+	}
+}
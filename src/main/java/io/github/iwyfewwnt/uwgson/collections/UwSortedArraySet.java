@@ -0,0 +1,451 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson.collections;
+
+import java.util.*;
+
+/**
+ * An unmodifiable {@link NavigableSet} backed by a sorted array.
+ *
+ * <p>Lookups are binary searches over the array, and views
+ * returned by {@link #subSet}, {@link #headSet} and {@link #tailSet}
+ * share it. The {@link #descendingSet()} view is a copy.
+ *
+ * @param <E>	the element type
+ */
+@SuppressWarnings("unused")
+public final class UwSortedArraySet<E> extends AbstractSet<E> implements NavigableSet<E> {
+
+	/**
+	 * A sorted array of distinct elements.
+	 */
+	private final Object[] elements;
+
+	/**
+	 * An inclusive start index of this set.
+	 */
+	private final int fromIndex;
+
+	/**
+	 * An exclusive end index of this set.
+	 */
+	private final int toIndex;
+
+	/**
+	 * A comparator or {@code null} for the natural ordering.
+	 */
+	private final Comparator<? super E> comparator;
+
+	/**
+	 * Initialize a {@link UwSortedArraySet} instance.
+	 *
+	 * @param elements		the sorted array of distinct elements
+	 * @param fromIndex		the inclusive start index
+	 * @param toIndex		the exclusive end index
+	 * @param comparator	the comparator or {@code null} for the natural ordering
+	 */
+	UwSortedArraySet(Object[] elements, int fromIndex, int toIndex, Comparator<? super E> comparator) {
+		this.elements = elements;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+		this.comparator = comparator;
+	}
+
+	/**
+	 * Create a {@link UwSortedArraySet} instance
+	 * from the provided collection.
+	 *
+	 * <p>Elements equal according to the ordering are kept once.
+	 *
+	 * @param collection	the collection of non-null elements
+	 * @param comparator	the comparator or {@code null} for the natural ordering
+	 * @param <E>			the element type
+	 * @return				the sorted array set
+	 */
+	public static <E> UwSortedArraySet<E> copyOf(Collection<? extends E> collection, Comparator<? super E> comparator) {
+		Object[] elements = collection.toArray();
+
+		Arrays.sort(elements, asObjectComparator(comparator));
+
+		int size = 0;
+		for (Object element : elements) {
+			if (size == 0 || compare(comparator, elements[size - 1], element) != 0) {
+				elements[size++] = element;
+			}
+		}
+
+		if (size != elements.length) {
+			elements = Arrays.copyOf(elements, size);
+		}
+
+		return new UwSortedArraySet<>(elements, 0, size, comparator);
+	}
+
+	/**
+	 * Compare two elements w/ the provided comparator
+	 * or the natural ordering.
+	 *
+	 * @param comparator	the comparator or {@code null} for the natural ordering
+	 * @param a				the first element
+	 * @param b				the second element
+	 * @return				the comparison result
+	 */
+	@SuppressWarnings("unchecked")
+	static int compare(Comparator<?> comparator, Object a, Object b) {
+		if (comparator == null) {
+			return ((Comparable<Object>) a).compareTo(b);
+		}
+
+		return ((Comparator<Object>) comparator).compare(a, b);
+	}
+
+	/**
+	 * Cast the provided comparator to an object comparator.
+	 *
+	 * @param comparator	the comparator or {@code null} for the natural ordering
+	 * @return				the object comparator or {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	static Comparator<Object> asObjectComparator(Comparator<?> comparator) {
+		return (Comparator<Object>) comparator;
+	}
+
+	/**
+	 * Search for the key in the provided range.
+	 *
+	 * @param array			the sorted array
+	 * @param fromIndex		the inclusive start index
+	 * @param toIndex		the exclusive end index
+	 * @param key			the key
+	 * @param comparator	the comparator or {@code null} for the natural ordering
+	 * @return				the index of the key or {@code (-(insertion point) - 1)}
+	 */
+	static int search(Object[] array, int fromIndex, int toIndex, Object key, Comparator<?> comparator) {
+		return Arrays.binarySearch(array, fromIndex, toIndex, key, asObjectComparator(comparator));
+	}
+
+	/**
+	 * Get an index of the greatest key strictly less than the provided one.
+	 *
+	 * @param index		the search result
+	 * @return			the index, may be out of range
+	 */
+	static int lowerIndex(int index) {
+		return index >= 0 ? index - 1 : -index - 2;
+	}
+
+	/**
+	 * Get an index of the greatest key less than or equal to the provided one.
+	 *
+	 * @param index		the search result
+	 * @return			the index, may be out of range
+	 */
+	static int floorIndex(int index) {
+		return index >= 0 ? index : -index - 2;
+	}
+
+	/**
+	 * Get an index of the least key greater than or equal to the provided one.
+	 *
+	 * @param index		the search result
+	 * @return			the index, may be out of range
+	 */
+	static int ceilingIndex(int index) {
+		return index >= 0 ? index : -index - 1;
+	}
+
+	/**
+	 * Get an index of the least key strictly greater than the provided one.
+	 *
+	 * @param index		the search result
+	 * @return			the index, may be out of range
+	 */
+	static int higherIndex(int index) {
+		return index >= 0 ? index + 1 : -index - 1;
+	}
+
+	/**
+	 * Search for the element in this set.
+	 *
+	 * @param e		the element
+	 * @return		the search result
+	 */
+	private int search(Object e) {
+		return search(this.elements, this.fromIndex, this.toIndex, e, this.comparator);
+	}
+
+	/**
+	 * Get an element at the provided index.
+	 *
+	 * @param index		the index
+	 * @return			the element or {@code null} if out of range
+	 */
+	@SuppressWarnings("unchecked")
+	private E elementAt(int index) {
+		if (index < this.fromIndex || index >= this.toIndex) {
+			return null;
+		}
+
+		return (E) this.elements[index];
+	}
+
+	/**
+	 * Create a view of this set in the provided range.
+	 *
+	 * @param fromIndex		the inclusive start index
+	 * @param toIndex		the exclusive end index
+	 * @return				the view
+	 */
+	private UwSortedArraySet<E> view(int fromIndex, int toIndex) {
+		fromIndex = Math.max(fromIndex, this.fromIndex);
+		toIndex = Math.max(Math.min(toIndex, this.toIndex), fromIndex);
+
+		return new UwSortedArraySet<>(this.elements, fromIndex, toIndex, this.comparator);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size() {
+		return this.toIndex - this.fromIndex;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean contains(Object o) {
+		if (o == null) {
+			return false;
+		}
+
+		try {
+			return this.search(o) >= 0;
+		} catch (ClassCastException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object[] toArray() {
+		return Arrays.copyOfRange(this.elements, this.fromIndex, this.toIndex);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new Iterator<E>() {
+			private int index = fromIndex;
+
+			@Override
+			public boolean hasNext() {
+				return this.index < toIndex;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public E next() {
+				if (this.index >= toIndex) {
+					throw new NoSuchElementException();
+				}
+
+				return (E) elements[this.index++];
+			}
+		};
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Iterator<E> descendingIterator() {
+		return new Iterator<E>() {
+			private int index = toIndex;
+
+			@Override
+			public boolean hasNext() {
+				return this.index > fromIndex;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public E next() {
+				if (this.index <= fromIndex) {
+					throw new NoSuchElementException();
+				}
+
+				return (E) elements[--this.index];
+			}
+		};
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Comparator<? super E> comparator() {
+		return this.comparator;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E first() {
+		if (this.isEmpty()) {
+			throw new NoSuchElementException();
+		}
+
+		return this.elementAt(this.fromIndex);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E last() {
+		if (this.isEmpty()) {
+			throw new NoSuchElementException();
+		}
+
+		return this.elementAt(this.toIndex - 1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E lower(E e) {
+		return this.elementAt(lowerIndex(this.search(e)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E floor(E e) {
+		return this.elementAt(floorIndex(this.search(e)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E ceiling(E e) {
+		return this.elementAt(ceilingIndex(this.search(e)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E higher(E e) {
+		return this.elementAt(higherIndex(this.search(e)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E pollFirst() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E pollLast() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public NavigableSet<E> descendingSet() {
+		return Collections.unmodifiableNavigableSet(new TreeSet<>(this).descendingSet());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public NavigableSet<E> subSet(E fromElement, boolean fromInclusive, E toElement, boolean toInclusive) {
+		if (compare(this.comparator, fromElement, toElement) > 0) {
+			throw new IllegalArgumentException("fromElement > toElement");
+		}
+
+		int fromResult = this.search(fromElement);
+		int toResult = this.search(toElement);
+
+		return this.view(
+				fromInclusive ? ceilingIndex(fromResult) : higherIndex(fromResult),
+				toInclusive ? higherIndex(toResult) : ceilingIndex(toResult)
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public NavigableSet<E> headSet(E toElement, boolean inclusive) {
+		int result = this.search(toElement);
+
+		return this.view(this.fromIndex, inclusive ? higherIndex(result) : ceilingIndex(result));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public NavigableSet<E> tailSet(E fromElement, boolean inclusive) {
+		int result = this.search(fromElement);
+
+		return this.view(inclusive ? ceilingIndex(result) : higherIndex(result), this.toIndex);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public SortedSet<E> subSet(E fromElement, E toElement) {
+		return this.subSet(fromElement, true, toElement, false);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public SortedSet<E> headSet(E toElement) {
+		return this.headSet(toElement, false);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public SortedSet<E> tailSet(E fromElement) {
+		return this.tailSet(fromElement, true);
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson.deserializers;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+
+/**
+ * A {@code byte[]} JSON deserializer.
+ *
+ * <p>Decodes standard or URL-safe Base64 strings, padded or not,
+ * straight from the string characters into a right-sized array.
+ * Arrays of numbers are accepted as well.
+ */
+@SuppressWarnings("unused")
+public final class UwByteArrayJsonDeserializer implements JsonDeserializer<byte[]> {
+
+	/**
+	 * A Base64 padding character.
+	 */
+	private static final char PADDING = '=';
+
+	/**
+	 * A Base64 decoding table of both standard and URL-safe alphabets.
+	 */
+	private static final int[] DECODING_TABLE = new int[128];
+
+	static {
+		Arrays.fill(DECODING_TABLE, -1);
+
+		String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+		for (int i = 0; i < alphabet.length(); i++) {
+			DECODING_TABLE[alphabet.charAt(i)] = i;
+		}
+
+		DECODING_TABLE['+'] = 62;
+		DECODING_TABLE['-'] = 62;
+		DECODING_TABLE['/'] = 63;
+		DECODING_TABLE['_'] = 63;
+	}
+
+	/**
+	 * Initialize an {@link UwByteArrayJsonDeserializer} instance.
+	 */
+	public UwByteArrayJsonDeserializer() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public byte[] deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
+		try {
+			return deserializeBytes(json);
+		} catch (Throwable t) {
+			t.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Deserialize a JSON element into bytes.
+	 *
+	 * @param json	the JSON element
+	 * @return		the byte array or {@code null}
+	 * @throws IllegalArgumentException	if the string isn't valid Base64
+	 */
+	static byte[] deserializeBytes(JsonElement json) {
+		if (json == null || json.isJsonNull()) {
+			return null;
+		}
+
+		if (json.isJsonArray()) {
+			JsonArray jsonArray = json.getAsJsonArray();
+			if (jsonArray.isEmpty()) {
+				return null;
+			}
+
+			int size = jsonArray.size();
+
+			byte[] bytes = new byte[size];
+			for (int i = 0; i < size; i++) {
+				bytes[i] = jsonArray.get(i).getAsByte();
+			}
+
+			return bytes;
+		}
+
+		String str = json.getAsString();
+
+		if (str.isEmpty() || str.equals("null")) {
+			return null;
+		}
+
+		return decodeBase64(str);
+	}
+
+	/**
+	 * Decode a Base64 string.
+	 *
+	 * @param str	the standard or URL-safe Base64 string
+	 * @return		the byte array
+	 * @throws IllegalArgumentException	if the string isn't valid Base64
+	 */
+	static byte[] decodeBase64(String str) {
+		int length = str.length();
+
+		if (length > 0 && str.charAt(length - 1) == PADDING) {
+			length--;
+
+			if (length > 0 && str.charAt(length - 1) == PADDING) {
+				length--;
+			}
+		}
+
+		int remainder = length & 3;
+		if (remainder == 1) {
+			throw new IllegalArgumentException("Invalid Base64 length: " + str.length());
+		}
+
+		int fullLength = length - remainder;
+
+		byte[] bytes = new byte[(fullLength >> 2) * 3 + (remainder == 0 ? 0 : remainder - 1)];
+
+		int j = 0;
+		for (int i = 0; i < fullLength; i += 4) {
+			int bits = sextet(str, i) << 18
+					| sextet(str, i + 1) << 12
+					| sextet(str, i + 2) << 6
+					| sextet(str, i + 3);
+
+			bytes[j++] = (byte) (bits >> 16);
+			bytes[j++] = (byte) (bits >> 8);
+			bytes[j++] = (byte) bits;
+		}
+
+		if (remainder == 2) {
+			int bits = sextet(str, fullLength) << 18
+					| sextet(str, fullLength + 1) << 12;
+
+			bytes[j] = (byte) (bits >> 16);
+		} else if (remainder == 3) {
+			int bits = sextet(str, fullLength) << 18
+					| sextet(str, fullLength + 1) << 12
+					| sextet(str, fullLength + 2) << 6;
+
+			bytes[j++] = (byte) (bits >> 16);
+			bytes[j] = (byte) (bits >> 8);
+		}
+
+		return bytes;
+	}
+
+	/**
+	 * Decode a Base64 character.
+	 *
+	 * @param str		the Base64 string
+	 * @param index		the character index
+	 * @return			the 6-bit value
+	 * @throws IllegalArgumentException	if the character isn't a Base64 one
+	 */
+	private static int sextet(String str, int index) {
+		char c = str.charAt(index);
+		int value = c < DECODING_TABLE.length ? DECODING_TABLE[c] : -1;
+
+		if (value < 0) {
+			throw new IllegalArgumentException(
+					"Illegal Base64 character <" + c + "> at index " + index
+			);
+		}
+
+		return value;
+	}
+}
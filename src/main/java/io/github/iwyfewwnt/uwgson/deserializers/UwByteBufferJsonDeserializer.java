@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson.deserializers;
+
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+
+/**
+ * A read-only {@link ByteBuffer} JSON deserializer.
+ *
+ * <p>Wraps the bytes decoded the same way
+ * as by {@link UwByteArrayJsonDeserializer}.
+ */
+@SuppressWarnings("unused")
+public final class UwByteBufferJsonDeserializer implements JsonDeserializer<ByteBuffer> {
+
+	/**
+	 * Initialize a {@link UwByteBufferJsonDeserializer} instance.
+	 */
+	public UwByteBufferJsonDeserializer() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ByteBuffer deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
+		try {
+			byte[] bytes = UwByteArrayJsonDeserializer.deserializeBytes(json);
+
+			if (bytes == null) {
+				return null;
+			}
+
+			return ByteBuffer.wrap(bytes)
+					.asReadOnlyBuffer();
+		} catch (Throwable t) {
+			t.printStackTrace();
+		}
+
+		return null;
+	}
+}
@@ -19,6 +19,7 @@ package io.github.iwyfewwnt.uwgson.deserializers;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
+import io.github.iwyfewwnt.uwgson.UwFastDoubleParser;
 
 import java.lang.reflect.Type;
 
@@ -51,7 +52,7 @@ public final class UwDoubleJsonDeserializer implements JsonDeserializer<Double>
 			}
 
 			try {
-				return Double.parseDouble(str);
+				return UwFastDoubleParser.parseDouble(str);
 			} catch (NumberFormatException ignored) {
 			}
 
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson.deserializers;
+
+import io.github.iwyfewwnt.uwgson.UwLazyNumber;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.*;
+
+/**
+ * An immutable type check.
+ *
+ * <p>Tells if every value of a type decoded by the Uw*
+ * deserializers is immutable, so it's safe to share it
+ * through a canonicalization cache.
+ */
+final class UwImmutableTypes {
+
+	/**
+	 * A set of the immutable value classes.
+	 */
+	private static final Set<Class<?>> IMMUTABLE_CLASSES = new HashSet<>(Arrays.asList(
+			String.class, Boolean.class, Character.class,
+			Byte.class, Short.class, Integer.class, Long.class,
+			Float.class, Double.class, UwLazyNumber.class
+	));
+
+	/**
+	 * A set of the collection classes decoded
+	 * into unmodifiable collections.
+	 */
+	private static final Set<Class<?>> UNMODIFIABLE_CLASSES = new HashSet<>(Arrays.asList(
+			List.class, Map.class, Set.class,
+			SortedMap.class, NavigableMap.class,
+			SortedSet.class, NavigableSet.class
+	));
+
+	/**
+	 * Initialize an {@link UwImmutableTypes} instance.
+	 */
+	private UwImmutableTypes() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Check if the values of the provided type are immutable.
+	 *
+	 * <p>Strings, boxed primitives, enums and the Uw* collections
+	 * of those are. The {@link Object} type is only
+	 * in the dynamic objects mode.
+	 *
+	 * @param type				the type
+	 * @param dynamicObjects	whether the dynamic objects mode is used
+	 * @return					the boolean value
+	 */
+	static boolean isImmutable(Type type, boolean dynamicObjects) {
+		if (type instanceof Class<?>) {
+			Class<?> clazz = (Class<?>) type;
+
+			if (clazz == Object.class) {
+				return dynamicObjects;
+			}
+
+			return IMMUTABLE_CLASSES.contains(clazz) || clazz.isEnum();
+		}
+
+		if (type instanceof ParameterizedType) {
+			ParameterizedType parameterizedType = (ParameterizedType) type;
+
+			if (!UNMODIFIABLE_CLASSES.contains(parameterizedType.getRawType())) {
+				return false;
+			}
+
+			for (Type typeArgument : parameterizedType.getActualTypeArguments()) {
+				if (!isImmutable(typeArgument, dynamicObjects)) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		if (type instanceof WildcardType) {
+			WildcardType wildcardType = (WildcardType) type;
+
+			return wildcardType.getLowerBounds().length == 0
+					&& isImmutable(wildcardType.getUpperBounds()[0], dynamicObjects);
+		}
+
+		return false;
+	}
+}
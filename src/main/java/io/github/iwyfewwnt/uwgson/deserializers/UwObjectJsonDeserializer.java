@@ -0,0 +1,121 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson.deserializers;
+
+import com.google.gson.*;
+import io.github.iwyfewwnt.uwgson.UwLazyNumber;
+
+import java.lang.reflect.Type;
+import java.util.*;
+
+/**
+ * An {@link Object} JSON deserializer.
+ *
+ * <p>Integers become {@link Integer} or {@link Long} values,
+ * other numbers become {@link UwLazyNumber} ones, and nested
+ * objects and arrays become unmodifiable maps and lists
+ * w/ the same semantics as {@link UwUnmodifiableMapDeserializer}
+ * and {@link UwUnmodifiableListDeserializer}.
+ *
+ * <p>Gson resolves the {@link Object} type before any
+ * registered factory, so this one is used by the Uw*
+ * collection deserializers for their {@link Object} values
+ * if they're created w/ the dynamic objects mode.
+ */
+@SuppressWarnings("unused")
+public final class UwObjectJsonDeserializer implements JsonDeserializer<Object> {
+
+	/**
+	 * Initialize an {@link UwObjectJsonDeserializer} instance.
+	 */
+	public UwObjectJsonDeserializer() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
+		try {
+			return deserializeObject(json);
+		} catch (Throwable t) {
+			t.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Deserialize a JSON element of an unknown type.
+	 *
+	 * @param json	the JSON element
+	 * @return		the deserialized value
+	 */
+	static Object deserializeObject(JsonElement json) {
+		if (json == null || json.isJsonNull()) {
+			return null;
+		}
+
+		if (json.isJsonPrimitive()) {
+			JsonPrimitive jsonPrimitive = json.getAsJsonPrimitive();
+
+			if (jsonPrimitive.isBoolean()) {
+				return jsonPrimitive.getAsBoolean();
+			}
+
+			String str = jsonPrimitive.getAsString();
+
+			if (jsonPrimitive.isNumber()) {
+				return UwLazyNumber.valueOf(str);
+			}
+
+			if (str.isEmpty()) {
+				return null;
+			}
+
+			return str;
+		}
+
+		if (json.isJsonArray()) {
+			JsonArray jsonArray = json.getAsJsonArray();
+			if (jsonArray.isEmpty()) {
+				return null;
+			}
+
+			List<Object> list = new ArrayList<>(jsonArray.size());
+			for (JsonElement jsonElement : jsonArray) {
+				list.add(deserializeObject(jsonElement));
+			}
+
+			return Collections.unmodifiableList(list);
+		}
+
+		Set<Map.Entry<String, JsonElement>> jsonEntrySet = json.getAsJsonObject()
+				.entrySet();
+
+		if (jsonEntrySet.isEmpty()) {
+			return null;
+		}
+
+		Map<String, Object> map = new HashMap<>(jsonEntrySet.size());
+		for (Map.Entry<String, JsonElement> entry : jsonEntrySet) {
+			map.put(entry.getKey(), deserializeObject(entry.getValue()));
+		}
+
+		return Collections.unmodifiableMap(map);
+	}
+}
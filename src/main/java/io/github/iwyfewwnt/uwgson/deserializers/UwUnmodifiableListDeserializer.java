@@ -20,6 +20,7 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
+import io.github.iwyfewwnt.uwgson.collections.UwCanonicalizationCache;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -33,10 +34,51 @@ import java.util.List;
 @SuppressWarnings("unused")
 public final class UwUnmodifiableListDeserializer implements JsonDeserializer<List<?>> {
 
+	/**
+	 * A canonicalization cache or {@code null}.
+	 */
+	private final UwCanonicalizationCache cache;
+
+	/**
+	 * Whether to decode {@link Object} elements dynamically.
+	 */
+	private final boolean dynamicObjects;
+
 	/**
 	 * Initialize an {@link UwUnmodifiableListDeserializer} instance.
+	 *
+	 * <p>In the dynamic objects mode, the {@link Object} elements
+	 * are decoded as by {@link UwObjectJsonDeserializer} instead of
+	 * Gson's {@link Object} adapter.
+	 *
+	 * @param cache				the canonicalization cache or {@code null}
+	 * @param dynamicObjects	whether to use the dynamic objects mode
+	 */
+	public UwUnmodifiableListDeserializer(UwCanonicalizationCache cache, boolean dynamicObjects) {
+		this.cache = cache;
+		this.dynamicObjects = dynamicObjects;
+	}
+
+	/**
+	 * Initialize an {@link UwUnmodifiableListDeserializer} instance.
+	 *
+	 * <p>Wraps around {@link #UwUnmodifiableListDeserializer(UwCanonicalizationCache, boolean)}
+	 * and doesn't use the dynamic objects mode.
+	 *
+	 * @param cache		the canonicalization cache or {@code null}
+	 */
+	public UwUnmodifiableListDeserializer(UwCanonicalizationCache cache) {
+		this(cache, false);
+	}
+
+	/**
+	 * Initialize an {@link UwUnmodifiableListDeserializer} instance.
+	 *
+	 * <p>Wraps around {@link #UwUnmodifiableListDeserializer(UwCanonicalizationCache)}
+	 * and uses no canonicalization cache.
 	 */
 	public UwUnmodifiableListDeserializer() {
+		this(null);
 	}
 
 	/**
@@ -59,12 +101,20 @@ public final class UwUnmodifiableListDeserializer implements JsonDeserializer<Li
 
 			List<JsonElement> jsonList = jsonArray.asList();
 
-			List<?> list = new ArrayList<>(jsonList.size());
+			List<Object> list = new ArrayList<>(jsonList.size());
 			for (JsonElement jsonElement : jsonList) {
-				list.add(context.deserialize(jsonElement, elementType));
+				list.add(this.dynamicObjects && elementType == Object.class
+						? UwObjectJsonDeserializer.deserializeObject(jsonElement)
+						: context.deserialize(jsonElement, elementType));
+			}
+
+			List<?> result = Collections.unmodifiableList(list);
+
+			if (this.cache != null && UwImmutableTypes.isImmutable(type, this.dynamicObjects)) {
+				result = this.cache.canonicalize(result);
 			}
 
-			return Collections.unmodifiableList(list);
+			return result;
 		} catch (Throwable t) {
 			t.printStackTrace();
 		}
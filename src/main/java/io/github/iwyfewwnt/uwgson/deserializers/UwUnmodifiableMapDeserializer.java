@@ -20,6 +20,7 @@ import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonPrimitive;
+import io.github.iwyfewwnt.uwgson.collections.UwCanonicalizationCache;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -34,10 +35,51 @@ import java.util.Set;
 @SuppressWarnings("unused")
 public final class UwUnmodifiableMapDeserializer implements JsonDeserializer<Map<?, ?>> {
 
+	/**
+	 * A canonicalization cache or {@code null}.
+	 */
+	private final UwCanonicalizationCache cache;
+
+	/**
+	 * Whether to decode {@link Object} values dynamically.
+	 */
+	private final boolean dynamicObjects;
+
 	/**
 	 * Initialize an {@link UwUnmodifiableMapDeserializer} instance.
+	 *
+	 * <p>In the dynamic objects mode, the {@link Object} values
+	 * are decoded as by {@link UwObjectJsonDeserializer} instead of
+	 * Gson's {@link Object} adapter.
+	 *
+	 * @param cache				the canonicalization cache or {@code null}
+	 * @param dynamicObjects	whether to use the dynamic objects mode
+	 */
+	public UwUnmodifiableMapDeserializer(UwCanonicalizationCache cache, boolean dynamicObjects) {
+		this.cache = cache;
+		this.dynamicObjects = dynamicObjects;
+	}
+
+	/**
+	 * Initialize an {@link UwUnmodifiableMapDeserializer} instance.
+	 *
+	 * <p>Wraps around {@link #UwUnmodifiableMapDeserializer(UwCanonicalizationCache, boolean)}
+	 * and doesn't use the dynamic objects mode.
+	 *
+	 * @param cache		the canonicalization cache or {@code null}
+	 */
+	public UwUnmodifiableMapDeserializer(UwCanonicalizationCache cache) {
+		this(cache, false);
+	}
+
+	/**
+	 * Initialize an {@link UwUnmodifiableMapDeserializer} instance.
+	 *
+	 * <p>Wraps around {@link #UwUnmodifiableMapDeserializer(UwCanonicalizationCache)}
+	 * and uses no canonicalization cache.
 	 */
 	public UwUnmodifiableMapDeserializer() {
+		this(null);
 	}
 
 	/**
@@ -66,12 +108,20 @@ public final class UwUnmodifiableMapDeserializer implements JsonDeserializer<Map
 			Map<Object, Object> map = new HashMap<>(jsonEntrySet.size());
 			for (Map.Entry<String, JsonElement> entry : jsonEntrySet) {
 				Object key = context.deserialize(new JsonPrimitive(entry.getKey()), keyType);
-				Object val = context.deserialize(entry.getValue(), valueType);
+				Object val = this.dynamicObjects && valueType == Object.class
+						? UwObjectJsonDeserializer.deserializeObject(entry.getValue())
+						: context.deserialize(entry.getValue(), valueType);
 
 				map.put(key, val);
 			}
 
-			return Collections.unmodifiableMap(map);
+			Map<?, ?> result = Collections.unmodifiableMap(map);
+
+			if (this.cache != null && UwImmutableTypes.isImmutable(type, this.dynamicObjects)) {
+				result = this.cache.canonicalize(result);
+			}
+
+			return result;
 		} catch (Throwable t) {
 			t.printStackTrace();
 		}
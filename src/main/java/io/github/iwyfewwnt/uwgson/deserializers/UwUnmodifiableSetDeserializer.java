@@ -20,6 +20,7 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
+import io.github.iwyfewwnt.uwgson.collections.UwCanonicalizationCache;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -34,10 +35,51 @@ import java.util.Set;
 @SuppressWarnings("unused")
 public final class UwUnmodifiableSetDeserializer implements JsonDeserializer<Set<?>> {
 
+	/**
+	 * A canonicalization cache or {@code null}.
+	 */
+	private final UwCanonicalizationCache cache;
+
+	/**
+	 * Whether to decode {@link Object} elements dynamically.
+	 */
+	private final boolean dynamicObjects;
+
 	/**
 	 * Initialize an {@link UwUnmodifiableSetDeserializer} instance.
+	 *
+	 * <p>In the dynamic objects mode, the {@link Object} elements
+	 * are decoded as by {@link UwObjectJsonDeserializer} instead of
+	 * Gson's {@link Object} adapter.
+	 *
+	 * @param cache				the canonicalization cache or {@code null}
+	 * @param dynamicObjects	whether to use the dynamic objects mode
+	 */
+	public UwUnmodifiableSetDeserializer(UwCanonicalizationCache cache, boolean dynamicObjects) {
+		this.cache = cache;
+		this.dynamicObjects = dynamicObjects;
+	}
+
+	/**
+	 * Initialize an {@link UwUnmodifiableSetDeserializer} instance.
+	 *
+	 * <p>Wraps around {@link #UwUnmodifiableSetDeserializer(UwCanonicalizationCache, boolean)}
+	 * and doesn't use the dynamic objects mode.
+	 *
+	 * @param cache		the canonicalization cache or {@code null}
+	 */
+	public UwUnmodifiableSetDeserializer(UwCanonicalizationCache cache) {
+		this(cache, false);
+	}
+
+	/**
+	 * Initialize an {@link UwUnmodifiableSetDeserializer} instance.
+	 *
+	 * <p>Wraps around {@link #UwUnmodifiableSetDeserializer(UwCanonicalizationCache)}
+	 * and uses no canonicalization cache.
 	 */
 	public UwUnmodifiableSetDeserializer() {
+		this(null);
 	}
 
 	/**
@@ -60,12 +102,20 @@ public final class UwUnmodifiableSetDeserializer implements JsonDeserializer<Set
 
 			List<JsonElement> jsonList = jsonArray.asList();
 
-			Set<?> set = new HashSet<>(jsonList.size());
+			Set<Object> set = new HashSet<>(jsonList.size());
 			for (JsonElement jsonElement : jsonList) {
-				set.add(context.deserialize(jsonElement, elementType));
+				set.add(this.dynamicObjects && elementType == Object.class
+						? UwObjectJsonDeserializer.deserializeObject(jsonElement)
+						: context.deserialize(jsonElement, elementType));
+			}
+
+			Set<?> result = Collections.unmodifiableSet(set);
+
+			if (this.cache != null && UwImmutableTypes.isImmutable(type, this.dynamicObjects)) {
+				result = this.cache.canonicalize(result);
 			}
 
-			return Collections.unmodifiableSet(set);
+			return result;
 		} catch (Throwable t) {
 			t.printStackTrace();
 		}
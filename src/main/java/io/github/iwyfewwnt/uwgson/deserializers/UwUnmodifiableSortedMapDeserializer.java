@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson.deserializers;
+
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import io.github.iwyfewwnt.uwgson.collections.UwSortedArrayMap;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+
+/**
+ * An unmodifiable {@link NavigableMap} JSON deserializer.
+ *
+ * <p>Entries are sorted once into a {@link UwSortedArrayMap},
+ * the ones w/ a {@code null} key are skipped.
+ */
+@SuppressWarnings("unused")
+public final class UwUnmodifiableSortedMapDeserializer implements JsonDeserializer<NavigableMap<?, ?>> {
+
+	/**
+	 * Initialize an {@link UwUnmodifiableSortedMapDeserializer} instance.
+	 */
+	public UwUnmodifiableSortedMapDeserializer() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public NavigableMap<?, ?> deserialize(JsonElement json, Type type, JsonDeserializationContext context) {
+		if (json == null || json.isJsonNull()) {
+			return null;
+		}
+
+		try {
+			Set<Map.Entry<String, JsonElement>> jsonEntrySet = json.getAsJsonObject()
+					.entrySet();
+
+			if (jsonEntrySet.isEmpty()) {
+				return null;
+			}
+
+			Type[] genericTypes = ((ParameterizedType) type)
+					.getActualTypeArguments();
+
+			Type keyType = genericTypes[0];
+			Type valueType = genericTypes[1];
+
+			List<Map.Entry<Object, Object>> entries = new ArrayList<>(jsonEntrySet.size());
+			for (Map.Entry<String, JsonElement> entry : jsonEntrySet) {
+				Object key = context.deserialize(new JsonPrimitive(entry.getKey()), keyType);
+				if (key == null) {
+					continue;
+				}
+
+				Object val = context.deserialize(entry.getValue(), valueType);
+
+				entries.add(new AbstractMap.SimpleImmutableEntry<>(key, val));
+			}
+
+			if (entries.isEmpty()) {
+				return null;
+			}
+
+			return UwSortedArrayMap.copyOf(entries, null);
+		} catch (Throwable t) {
+			t.printStackTrace();
+		}
+
+		return null;
+	}
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson;
+
+import com.google.gson.FieldNamingStrategy;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A record type adapter factory.
+ *
+ * <p>Reads records straight from the token stream and binds
+ * their components once to a {@link MethodHandle} of the canonical
+ * constructor. Component names follow the {@link Gson} instance's
+ * field naming strategy and {@link SerializedName} annotations,
+ * excluded components are skipped, and each component is read
+ * w/ the adapter the instance resolves for it, so the Uw* lenient
+ * semantics apply. Missing or {@code null} primitive components
+ * become zero. Records are written by the next adapter for the type.
+ *
+ * <p><hr>
+ * <pre>{@code
+ *     new GsonBuilder()
+ *             .registerTypeAdapterFactory(new UwTypeAdapterFactory())
+ *             .registerTypeAdapterFactory(new UwRecordTypeAdapterFactory())
+ *             .create();
+ * }</pre>
+ * <hr>
+ */
+@SuppressWarnings("unused")
+public final class UwRecordTypeAdapterFactory implements TypeAdapterFactory {
+
+	/**
+	 * Initialize a {@link UwRecordTypeAdapterFactory} instance.
+	 */
+	public UwRecordTypeAdapterFactory() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		Class<? super T> clazz = type.getRawType();
+
+		if (!clazz.isRecord()) {
+			return null;
+		}
+
+		return new RecordTypeAdapter<>(gson, type, gson.getDelegateAdapter(this, type));
+	}
+
+	/**
+	 * A record type adapter.
+	 *
+	 * @param <T>	the record type
+	 */
+	private static final class RecordTypeAdapter<T> extends TypeAdapter<T> {
+
+		/**
+		 * A component index map by JSON name.
+		 */
+		private final Map<String, Integer> indices = new HashMap<>();
+
+		/**
+		 * An array of the component type adapters,
+		 * {@code null} for the excluded ones.
+		 */
+		private final TypeAdapter<?>[] adapters;
+
+		/**
+		 * An array of the component default values.
+		 */
+		private final Object[] defaultValues;
+
+		/**
+		 * A canonical constructor spread over an {@code Object[]}.
+		 */
+		private final MethodHandle constructor;
+
+		/**
+		 * A type adapter to write records w/.
+		 */
+		private final TypeAdapter<T> delegate;
+
+		/**
+		 * Initialize a {@link RecordTypeAdapter} instance.
+		 *
+		 * @param gson			the gson instance
+		 * @param type			the record type
+		 * @param delegate		the type adapter to write records w/
+		 * @throws IllegalArgumentException	if the canonical constructor isn't accessible
+		 */
+		@SuppressWarnings("deprecation")
+		private RecordTypeAdapter(Gson gson, TypeToken<T> type, TypeAdapter<T> delegate) {
+			Class<? super T> clazz = type.getRawType();
+
+			RecordComponent[] components = clazz.getRecordComponents();
+			TypeVariable<?>[] typeVariables = clazz.getTypeParameters();
+			Type[] typeArguments = type.getType() instanceof ParameterizedType
+					? ((ParameterizedType) type.getType()).getActualTypeArguments()
+					: null;
+
+			FieldNamingStrategy fieldNamingStrategy = gson.fieldNamingStrategy();
+
+			int length = components.length;
+
+			this.adapters = new TypeAdapter<?>[length];
+			this.defaultValues = new Object[length];
+			this.delegate = delegate;
+
+			Class<?>[] parameterTypes = new Class<?>[length];
+
+			for (int i = 0; i < length; i++) {
+				RecordComponent component = components[i];
+
+				parameterTypes[i] = component.getType();
+
+				if (parameterTypes[i].isPrimitive()) {
+					this.defaultValues[i] = Array.get(Array.newInstance(parameterTypes[i], 1), 0);
+				}
+
+				Field field = getField(clazz, component.getName());
+
+				if (field == null || gson.excluder().excludeField(field, false)) {
+					continue;
+				}
+
+				SerializedName serializedName = field.getAnnotation(SerializedName.class);
+
+				if (serializedName != null) {
+					this.indices.put(serializedName.value(), i);
+
+					for (String alternateName : serializedName.alternate()) {
+						this.indices.putIfAbsent(alternateName, i);
+					}
+				} else {
+					this.indices.put(fieldNamingStrategy.translateName(field), i);
+				}
+
+				Type componentType = UwTypeGraph.resolve(component.getGenericType(), typeVariables, typeArguments);
+
+				this.adapters[i] = gson.getAdapter(TypeToken.get(componentType));
+			}
+
+			try {
+				Constructor<?> canonicalConstructor = clazz.getDeclaredConstructor(parameterTypes);
+				canonicalConstructor.setAccessible(true);
+
+				this.constructor = MethodHandles.lookup()
+						.unreflectConstructor(canonicalConstructor)
+						.asType(MethodType.genericMethodType(length))
+						.asSpreader(Object[].class, length);
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				throw new IllegalArgumentException(
+						"Unable to access the canonical constructor of the <"
+								+ clazz.getTypeName() + "> type", e
+				);
+			}
+		}
+
+		/**
+		 * Get a declared field of the record component.
+		 *
+		 * @param clazz		the record class
+		 * @param name		the component name
+		 * @return			the field or {@code null}
+		 */
+		private static Field getField(Class<?> clazz, String name) {
+			try {
+				return clazz.getDeclaredField(name);
+			} catch (NoSuchFieldException e) {
+				return null;
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void write(JsonWriter out, T value) throws IOException {
+			this.delegate.write(out, value);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public T read(JsonReader in) throws IOException {
+			JsonToken token = in.peek();
+
+			if (token == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			if (token != JsonToken.BEGIN_OBJECT) {
+				in.skipValue();
+
+				new UnsupportedOperationException(
+						"Unable to read a record from the <" + token + "> token"
+				).printStackTrace();
+
+				return null;
+			}
+
+			Object[] args = new Object[this.adapters.length];
+
+			in.beginObject();
+			while (in.hasNext()) {
+				Integer index = this.indices.get(in.nextName());
+
+				if (index == null) {
+					in.skipValue();
+					continue;
+				}
+
+				args[index] = this.adapters[index].read(in);
+			}
+			in.endObject();
+
+			for (int i = 0; i < args.length; i++) {
+				if (args[i] == null) {
+					args[i] = this.defaultValues[i];
+				}
+			}
+
+			try {
+				return (T) this.constructor.invokeExact(args);
+			} catch (Throwable t) {
+				t.printStackTrace();
+			}
+
+			return null;
+		}
+	}
+}
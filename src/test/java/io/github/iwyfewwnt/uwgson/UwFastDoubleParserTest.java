@@ -0,0 +1,327 @@
+/*
+ * Copyright 2023 iwyfewwnt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.iwyfewwnt.uwgson;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A {@link UwFastDoubleParser} test.
+ *
+ * <p>Every case is checked bit for bit against
+ * {@link Double#parseDouble(String)} and {@link Float#parseFloat(String)}.
+ */
+class UwFastDoubleParserTest {
+
+	/**
+	 * A number of random values per test.
+	 */
+	private static final int RANDOM_COUNT = 1_000_000;
+
+	/**
+	 * A random seed.
+	 */
+	private static final long SEED = 0x5DEECE66DL;
+
+	/**
+	 * Assert that the provided string parses to the same double as w/ the JDK.
+	 *
+	 * @param str	the string
+	 */
+	private static void assertSameDouble(String str) {
+		assertEquals(Double.doubleToRawLongBits(Double.parseDouble(str)),
+				Double.doubleToRawLongBits(UwFastDoubleParser.parseDouble(str)), str);
+	}
+
+	/**
+	 * Assert that the provided string parses to the same float as w/ the JDK.
+	 *
+	 * @param str	the string
+	 */
+	private static void assertSameFloat(String str) {
+		assertEquals(Float.floatToRawIntBits(Float.parseFloat(str)),
+				Float.floatToRawIntBits(UwFastDoubleParser.parseFloat(str)), str);
+	}
+
+	/**
+	 * Assert that the provided double round-trips
+	 * through its shortest and 17-digit forms.
+	 *
+	 * @param value		the double
+	 */
+	private static void assertDoubleRoundTrip(double value) {
+		assertSameDouble(Double.toString(value));
+		assertSameDouble(String.format(Locale.ROOT, "%.17g", value));
+		assertSameDouble(new BigDecimal(value).round(MathContext.DECIMAL64).toString());
+	}
+
+	/**
+	 * Assert that the provided float round-trips
+	 * through its shortest and 9-digit forms.
+	 *
+	 * @param value		the float
+	 */
+	private static void assertFloatRoundTrip(float value) {
+		assertSameFloat(Float.toString(value));
+		assertSameFloat(String.format(Locale.ROOT, "%.9g", value));
+		assertSameFloat(new BigDecimal(value).round(MathContext.DECIMAL32).toString());
+	}
+
+	/**
+	 * Assert that the strings around the midpoint
+	 * of the provided doubles parse as w/ the JDK.
+	 *
+	 * @param lower		the lower double
+	 * @param upper		the upper double
+	 */
+	private static void assertMidpoint(double lower, double upper) {
+		BigDecimal midpoint = new BigDecimal(lower)
+				.add(new BigDecimal(upper))
+				.divide(BigDecimal.valueOf(2));
+
+		assertSameDouble(midpoint.toString());
+
+		for (int digits = 17; digits <= 19; digits++) {
+			assertSameDouble(midpoint.round(new MathContext(digits, RoundingMode.FLOOR)).toString());
+			assertSameDouble(midpoint.round(new MathContext(digits, RoundingMode.CEILING)).toString());
+		}
+	}
+
+	@Test
+	void testRandomDoubleBits() {
+		Random random = new Random(SEED);
+
+		for (int i = 0; i < RANDOM_COUNT; i++) {
+			double value = Double.longBitsToDouble(random.nextLong());
+
+			if (Double.isNaN(value) || Double.isInfinite(value)) {
+				continue;
+			}
+
+			assertDoubleRoundTrip(value);
+		}
+	}
+
+	@Test
+	void testRandomFloatBits() {
+		Random random = new Random(SEED);
+
+		for (int i = 0; i < RANDOM_COUNT; i++) {
+			float value = Float.intBitsToFloat(random.nextInt());
+
+			if (Float.isNaN(value) || Float.isInfinite(value)) {
+				continue;
+			}
+
+			assertFloatRoundTrip(value);
+		}
+	}
+
+	@Test
+	void testRandomDecimals() {
+		Random random = new Random(SEED);
+
+		for (int i = 0; i < RANDOM_COUNT; i++) {
+			long mantissa = random.nextLong() & Long.MAX_VALUE;
+			int exponent = random.nextInt(700) - 350;
+
+			String str = mantissa + "e" + exponent;
+
+			assertSameDouble(str);
+			assertSameFloat(str);
+		}
+	}
+
+	@Test
+	void testMidpoints() {
+		Random random = new Random(SEED);
+
+		for (int i = 0; i < RANDOM_COUNT / 10; i++) {
+			double value = Math.abs(Double.longBitsToDouble(random.nextLong()));
+
+			if (Double.isNaN(value) || Double.isInfinite(value) || value == Double.MAX_VALUE) {
+				continue;
+			}
+
+			assertMidpoint(value, Math.nextUp(value));
+		}
+
+		assertMidpoint(0.0D, Double.MIN_VALUE);
+		assertMidpoint(Math.nextDown(Double.MIN_NORMAL), Double.MIN_NORMAL);
+		assertMidpoint(1.0D, Math.nextUp(1.0D));
+		assertMidpoint(Math.pow(2, 53), Math.nextUp(Math.pow(2, 53)));
+		assertMidpoint(Math.nextDown(Double.MAX_VALUE), Double.MAX_VALUE);
+
+		assertSameDouble("9007199254740993");
+		assertSameDouble("9007199254740993.0000000001");
+		assertSameDouble("1.00000000000000011102230246251565404236316680908203125");
+		assertSameDouble("1.00000000000000011102230246251565404236316680908203124");
+		assertSameDouble("1.00000000000000011102230246251565404236316680908203126");
+	}
+
+	@Test
+	void testSubnormalBoundaries() {
+		Random random = new Random(SEED);
+
+		for (int i = 0; i < RANDOM_COUNT / 10; i++) {
+			double value = Double.longBitsToDouble(random.nextLong() & 0x000FFFFFFFFFFFFFL);
+
+			assertDoubleRoundTrip(value);
+			assertDoubleRoundTrip(-value);
+		}
+
+		for (double value : new double[] {
+				Double.MIN_VALUE, 2 * Double.MIN_VALUE, Double.MIN_NORMAL,
+				Math.nextDown(Double.MIN_NORMAL), Math.nextUp(Double.MIN_NORMAL)
+		}) {
+			assertDoubleRoundTrip(value);
+		}
+
+		assertSameDouble("4.9e-324");
+		assertSameDouble("2.4703282292062327e-324");
+		assertSameDouble("2.4703282292062328e-324");
+		assertSameDouble("2.2250738585072011e-308");
+		assertSameDouble("2.2250738585072012e-308");
+		assertSameDouble("2.2250738585072014e-308");
+
+		for (float value : new float[] {
+				Float.MIN_VALUE, 2 * Float.MIN_VALUE, Float.MIN_NORMAL,
+				Math.nextDown(Float.MIN_NORMAL), Math.nextUp(Float.MIN_NORMAL)
+		}) {
+			assertFloatRoundTrip(value);
+		}
+
+		assertSameFloat("1.4e-45");
+		assertSameFloat("7.006492e-46");
+		assertSameFloat("7.006493e-46");
+		assertSameFloat("1.1754942e-38");
+	}
+
+	@Test
+	void testOverflowBoundaries() {
+		for (double value : new double[] {
+				Double.MAX_VALUE, Math.nextDown(Double.MAX_VALUE), 1e308, 1e300
+		}) {
+			assertDoubleRoundTrip(value);
+			assertDoubleRoundTrip(-value);
+		}
+
+		assertSameDouble("1.7976931348623157e308");
+		assertSameDouble("1.7976931348623158e308");
+		assertSameDouble("1.7976931348623159e308");
+		assertSameDouble("-1.7976931348623159e308");
+		assertSameDouble("179769313486231580793728971405303415079934132710037826936173778980444968292764750946649017977587207096330286416692887910946555547851940402630657488671505820681908902000708383676273854845817711531764475730270069855571366959622842914819860834936475292719074168444365510704342711559699508093042880177904174497791.9999999999");
+
+		for (float value : new float[] {
+				Float.MAX_VALUE, Math.nextDown(Float.MAX_VALUE), 1e38f
+		}) {
+			assertFloatRoundTrip(value);
+			assertFloatRoundTrip(-value);
+		}
+
+		assertSameFloat("3.4028235e38");
+		assertSameFloat("3.4028236e38");
+		assertSameFloat("3.40282357e38");
+		assertSameFloat("3.40282367e38");
+	}
+
+	@Test
+	void testExponentExtremes() {
+		for (int exponent = -400; exponent <= 400; exponent++) {
+			assertSameDouble("1e" + exponent);
+			assertSameDouble("9.999999999999999999e" + exponent);
+			assertSameDouble("1234567890123456789e" + exponent);
+			assertSameFloat("1e" + exponent);
+			assertSameFloat("9.999999999e" + exponent);
+		}
+
+		assertSameDouble("0e999999999");
+		assertSameDouble("1e999999");
+		assertSameDouble("1e-999999");
+		assertSameDouble("1e1000000");
+		assertSameDouble("1e-1000000");
+		assertSameDouble("1e0000000000000000000001");
+		assertSameDouble("1e2147483648");
+		assertSameDouble("1e-2147483649");
+		assertSameDouble("-0.0");
+		assertSameDouble("-0e-400");
+	}
+
+	@Test
+	void testExponentSaturation() {
+		StringBuilder zeros = new StringBuilder();
+
+		for (int i = 0; i < 150_000; i++) {
+			zeros.append('0');
+		}
+
+		String small = "0." + zeros + "1e1000000";
+		String large = "1" + zeros + "e-1000000";
+
+		assertEquals(Double.POSITIVE_INFINITY, UwFastDoubleParser.parseDouble(small));
+		assertEquals(0.0D, UwFastDoubleParser.parseDouble(large));
+
+		assertSameDouble(small);
+		assertSameDouble(large);
+		assertSameDouble("0." + zeros + "1e150005");
+		assertSameDouble("1" + zeros + "e-150005");
+
+		assertSameFloat(small);
+		assertSameFloat(large);
+	}
+
+	@Test
+	void testLongMantissas() {
+		assertSameDouble("9223372036854775807");
+		assertSameDouble("9223372036854775808");
+		assertSameDouble("9999999999999999999");
+		assertSameDouble("18446744073709551615");
+		assertSameDouble("0.1000000000000000055511151231257827021181583404541015625");
+		assertSameDouble("123456789012345678901234567890e-10");
+		assertSameDouble("000000000000000000000000000001.5");
+		assertSameDouble("1.5000000000000000000000000000000");
+	}
+
+	@Test
+	void testNonDecimalForms() {
+		for (String str : new String[] {
+				"NaN", "-NaN", "Infinity", "-Infinity", "+Infinity",
+				"0x1p3", "0x1.8p-1", "1d", "1f", "1.5D", " 1.5 ", "1.", ".5", "+.5e+1"
+		}) {
+			assertEquals(Double.parseDouble(str), UwFastDoubleParser.parseDouble(str), str);
+			assertEquals(Float.parseFloat(str), UwFastDoubleParser.parseFloat(str), str);
+		}
+	}
+
+	@Test
+	void testInvalidForms() {
+		for (String str : new String[] {
+				"", "-", "+", ".", "e1", "1e", "1e+", "1.2.3", "1e1.5", "abc", "1_000", "--1"
+		}) {
+			assertThrows(NumberFormatException.class, () -> UwFastDoubleParser.parseDouble(str), str);
+			assertThrows(NumberFormatException.class, () -> UwFastDoubleParser.parseFloat(str), str);
+		}
+	}
+}